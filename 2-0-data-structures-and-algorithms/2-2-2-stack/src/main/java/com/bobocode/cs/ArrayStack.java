@@ -0,0 +1,208 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link ArrayStack} is a stack implementation that is based on an array. Unlike {@link LinkedStack}, it does not
+ * allocate a node per element, so a push only writes a reference into the array unless the array is full. When it is
+ * full, the array is doubled, so push is performed in amortized constant time O(1).
+ * <p>
+ * A stack created with {@code shrink} enabled halves its array when it becomes a quarter full, but never below the
+ * initial capacity (or 16 if it is smaller). Shrinking at a quarter rather than at a half keeps a stack that goes up
+ * and down around the boundary from copying the array on every call. Otherwise, the array only grows.
+ * <p>
+ * {@link #pushAll(Object[])} and {@link #popInto(Object[], int)} move many elements with a single capacity check and
+ * array copy. Null elements are not supported.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int initialCapacity;
+    private final boolean shrink;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates a stack with a given initial capacity.
+     *
+     * @param initialCapacity initial size of the inner array
+     * @param shrink          {@code true} if the inner array should be halved when it becomes a quarter full
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public ArrayStack(int initialCapacity, boolean shrink) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity should be in range [0, " + MAX_CAPACITY + "]");
+        }
+        this.initialCapacity = initialCapacity;
+        this.shrink = shrink;
+        this.elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Creates a stack with a given initial capacity that never shrinks.
+     *
+     * @param initialCapacity initial size of the inner array
+     */
+    public ArrayStack(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates a stack with default initial capacity 16 that never shrinks.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * This method creates a stack of provided elements. The last element is on the top of the stack.
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        ArrayStack<T> stack = new ArrayStack<>(Math.max(elements.length, DEFAULT_CAPACITY));
+        stack.pushAll(elements);
+        return stack;
+    }
+
+    /**
+     * Pushes an element onto the top of this stack.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Pushes all elements onto the stack in the order of the array, so the last element ends up on the top.
+     *
+     * @param elements elements to add
+     */
+    public void pushAll(T[] elements) {
+        for (T element : elements) {
+            Objects.requireNonNull(element);
+        }
+        long required = (long) size + elements.length;
+        if (required > this.elements.length) {
+            grow(required);
+        }
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Removes the object at the top of this stack and returns it.
+     *
+     * @return the object at the top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    @Override
+    public T pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        T element = elementAt(--size);
+        elements[size] = null;
+        shrinkIfNeeded();
+        return element;
+    }
+
+    /**
+     * Pops up to {@code n} elements into the beginning of the target array. The top element goes to index 0, the next
+     * one to index 1, and so on.
+     *
+     * @param target an array to store popped elements
+     * @param n      max number of elements to pop
+     * @return number of popped elements, which is less than {@code n} if the stack has fewer elements
+     * @throws IndexOutOfBoundsException if {@code n} is negative or greater than the target length
+     */
+    public int popInto(T[] target, int n) {
+        Objects.checkFromIndexSize(0, n, target.length);
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++) {
+            target[i] = elementAt(size - 1 - i);
+        }
+        Arrays.fill(elements, size - count, size, null);
+        size -= count;
+        shrinkIfNeeded();
+        return count;
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return the object at the top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return elementAt(size - 1);
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the inner array.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private void grow(long minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Stack is too large");
+        }
+        int newCapacity = (int) Math.min(Math.max((long) elements.length << 1, minCapacity), MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, Math.max(newCapacity, DEFAULT_CAPACITY));
+    }
+
+    private void shrinkIfNeeded() {
+        int minCapacity = Math.max(initialCapacity, DEFAULT_CAPACITY);
+        if (shrink && size <= elements.length >> 2 && elements.length > minCapacity) {
+            // the length is not always a power-of-two multiple of the minimum after pushAll, so halving is capped
+            elements = Arrays.copyOf(elements, Math.max(elements.length >> 1, minCapacity));
+        }
+    }
+}
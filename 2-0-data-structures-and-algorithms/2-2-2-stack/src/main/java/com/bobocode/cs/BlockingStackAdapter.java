@@ -0,0 +1,194 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlockingStackAdapter} turns any {@link Stack} into a thread-safe stack with blocking operations. Consumers
+ * wait in {@link #take()} or {@link #poll(long, TimeUnit)} until an element is pushed, and producers wait in
+ * {@link #put(Object)} until there is free space, instead of catching {@link EmptyStackException} in a loop.
+ * <p>
+ * All operations are guarded by a {@link ReentrantLock}, and waiting threads are parked on its {@link Condition}s.
+ * Unlike {@code synchronized}, it does not pin a virtual thread to its carrier thread while it waits. The adapter
+ * should be the only way to access the wrapped stack. It keeps its own element counter, so checking for free space
+ * and {@link #size()} take constant time even if the wrapped stack counts elements in O(n).
+ *
+ * @param <T> generic type parameter
+ */
+public class BlockingStackAdapter<T> implements Stack<T> {
+    private final Stack<T> stack;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int size;
+
+    /**
+     * Creates a bounded adapter.
+     *
+     * @param stack    a stack to wrap
+     * @param capacity max number of elements
+     * @throws IllegalArgumentException if capacity is not positive or less than the stack size
+     */
+    public BlockingStackAdapter(Stack<T> stack, int capacity) {
+        int size = stack.size();
+        if (capacity <= 0 || size > capacity) {
+            throw new IllegalArgumentException("Capacity should be positive and not less than the stack size");
+        }
+        this.stack = stack;
+        this.capacity = capacity;
+        this.size = size;
+    }
+
+    /**
+     * Creates an unbounded adapter, so {@link #put(Object)} never waits.
+     *
+     * @param stack a stack to wrap
+     */
+    public BlockingStackAdapter(Stack<T> stack) {
+        this(stack, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Pushes an element onto the top of this stack without waiting.
+     *
+     * @param element elements to add
+     * @throws IllegalStateException if the stack is full
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (size == capacity) {
+                throw new IllegalStateException("Stack is full");
+            }
+            pushAndSignal(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pushes an element onto the top of this stack, waiting for free space if necessary.
+     *
+     * @param element elements to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                notFull.await();
+            }
+            pushAndSignal(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the object at the top of this stack without waiting.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return popAndSignal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the object at the top of this stack, waiting until an element is pushed if necessary.
+     *
+     * @return The object at the top of this stack
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return popAndSignal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the object at the top of this stack, waiting up to the given time until an element is pushed if
+     * necessary.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return The object at the top of this stack or null if the time elapsed before an element was pushed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return popAndSignal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void pushAndSignal(T element) {
+        stack.push(element);
+        size++;
+        notEmpty.signal();
+    }
+
+    private T popAndSignal() {
+        T element = stack.pop();
+        size--;
+        notFull.signal();
+        return element;
+    }
+}
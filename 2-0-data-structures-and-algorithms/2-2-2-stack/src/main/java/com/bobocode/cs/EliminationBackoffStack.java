@@ -0,0 +1,182 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link EliminationBackoffStack} is a lock-free thread-safe stack that extends the algorithm of {@link TreiberStack}
+ * with an elimination array. When a CAS on the head fails because of contention, the thread backs off to a random slot
+ * of the array instead of retrying on the head right away:
+ * <ul>
+ *     <li>a pushing thread offers its element in an empty slot and waits a short while for a popping thread</li>
+ *     <li>a popping thread takes an element that is offered in the slot</li>
+ * </ul>
+ * A push followed by a pop leaves the stack unchanged, so such a pair can complete without touching the head at all.
+ * Under heavy contention many operations are eliminated in parallel, in different slots, while the head is a single
+ * point that serializes all of them. If no matching operation comes, the thread takes its offer back and retries on
+ * the head.
+ * <p>
+ * Like {@link TreiberStack}, it does not keep a size field, so {@link #size()} takes O(n) time.
+ *
+ * @param <T> generic type parameter
+ */
+public class EliminationBackoffStack<T> implements Stack<T> {
+    private static final VarHandle HEAD;
+    private static final Object TAKEN = new Object();
+    private static final int MAX_SLOTS = 64;
+    private static final int WAIT_SPINS = 64;
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(EliminationBackoffStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final AtomicReferenceArray<Object> eliminationSlots;
+    private volatile Node<T> head;
+
+    /**
+     * Creates a stack with a given number of elimination slots.
+     *
+     * @param eliminationSlots a number of slots, it should be in range [1, 64]
+     * @throws IllegalArgumentException if the number of slots is out of range
+     */
+    public EliminationBackoffStack(int eliminationSlots) {
+        if (eliminationSlots < 1 || eliminationSlots > MAX_SLOTS) {
+            throw new IllegalArgumentException("Elimination slots should be in range [1, " + MAX_SLOTS + "]");
+        }
+        this.eliminationSlots = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * Creates a stack with a number of elimination slots equal to a half of available processors.
+     */
+    public EliminationBackoffStack() {
+        this(Math.min(MAX_SLOTS, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)));
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        while (true) {
+            Node<T> oldHead = head;
+            newNode.next = oldHead;
+            if (HEAD.compareAndSet(this, oldHead, newNode) || tryEliminatePush(newNode)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            Node<T> oldHead = head;
+            if (oldHead == null) {
+                throw new EmptyStackException();
+            }
+            if (HEAD.compareAndSet(this, oldHead, oldHead.next)) {
+                return oldHead.element;
+            }
+            Node<T> eliminated = tryEliminatePop();
+            if (eliminated != null) {
+                return eliminated.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stack. It counts nodes, so it takes O(n) time.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    /**
+     * Offers a node in a random empty slot and waits for a popping thread to replace it with {@code TAKEN}. Only the
+     * pushing thread empties its slot: either it takes the offer back or it clears the {@code TAKEN} mark.
+     *
+     * @return {@code true} if the node was taken by a popping thread
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = randomSlot();
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < WAIT_SPINS; i++) {
+            if (eliminationSlots.get(slot) == TAKEN) {
+                eliminationSlots.set(slot, null);
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        if (eliminationSlots.compareAndSet(slot, node, null)) {
+            return false;
+        }
+        eliminationSlots.set(slot, null);
+        return true;
+    }
+
+    /**
+     * Takes a node that is offered in a random slot by a pushing thread.
+     *
+     * @return the taken node or null if there was no offer
+     */
+    private Node<T> tryEliminatePop() {
+        int slot = randomSlot();
+        Object offer = eliminationSlots.get(slot);
+        if (offer != null && offer != TAKEN && eliminationSlots.compareAndSet(slot, offer, TAKEN)) {
+            return (Node<T>) offer;
+        }
+        return null;
+    }
+
+    private int randomSlot() {
+        return ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+    }
+
+    private static class Node<T> {
+        final T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link IntStack} is a stack of primitive {@code int} values that is based on an {@code int[]} array. It works like
+ * {@link ArrayStack}, but it does not box values into {@link Integer} objects, so neither push nor pop allocates
+ * anything unless the array has to grow or shrink. It does not implement {@link Stack} for the same reason.
+ *
+ * @see ArrayStack
+ */
+public class IntStack {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int initialCapacity;
+    private final boolean shrink;
+    private int[] elements;
+    private int size;
+
+    /**
+     * Creates a stack with a given initial capacity.
+     *
+     * @param initialCapacity initial size of the inner array
+     * @param shrink          {@code true} if the inner array should be halved when it becomes a quarter full
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntStack(int initialCapacity, boolean shrink) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity should be in range [0, " + MAX_CAPACITY + "]");
+        }
+        this.initialCapacity = initialCapacity;
+        this.shrink = shrink;
+        this.elements = new int[initialCapacity];
+    }
+
+    /**
+     * Creates a stack with a given initial capacity that never shrinks.
+     *
+     * @param initialCapacity initial size of the inner array
+     */
+    public IntStack(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates a stack with default initial capacity 16 that never shrinks.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * This method creates a stack of provided values. The last value is on the top of the stack.
+     *
+     * @param values values to add
+     * @return a new stack of values that were passed as method parameters
+     */
+    public static IntStack of(int... values) {
+        IntStack stack = new IntStack(Math.max(values.length, DEFAULT_CAPACITY));
+        stack.pushAll(values);
+        return stack;
+    }
+
+    /**
+     * Pushes a value onto the top of this stack.
+     *
+     * @param value value to add
+     */
+    public void push(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Pushes all values onto the stack in the order of the array, so the last value ends up on the top.
+     *
+     * @param values values to add
+     */
+    public void pushAll(int[] values) {
+        long required = (long) size + values.length;
+        if (required > elements.length) {
+            grow(required);
+        }
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Removes the value at the top of this stack and returns it.
+     *
+     * @return the value at the top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        int value = elements[--size];
+        shrinkIfNeeded();
+        return value;
+    }
+
+    /**
+     * Pops up to {@code n} values into the beginning of the target array. The top value goes to index 0, the next one
+     * to index 1, and so on.
+     *
+     * @param target an array to store popped values
+     * @param n      max number of values to pop
+     * @return number of popped values, which is less than {@code n} if the stack has fewer values
+     * @throws IndexOutOfBoundsException if {@code n} is negative or greater than the target length
+     */
+    public int popInto(int[] target, int n) {
+        Objects.checkFromIndexSize(0, n, target.length);
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++) {
+            target[i] = elements[size - 1 - i];
+        }
+        size -= count;
+        shrinkIfNeeded();
+        return count;
+    }
+
+    /**
+     * Returns the value at the top of this stack without removing it.
+     *
+     * @return the value at the top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Returns the number of values in the stack
+     *
+     * @return number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the inner array.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    private void grow(long minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Stack is too large");
+        }
+        int newCapacity = (int) Math.min(Math.max((long) elements.length << 1, minCapacity), MAX_CAPACITY);
+        elements = Arrays.copyOf(elements, Math.max(newCapacity, DEFAULT_CAPACITY));
+    }
+
+    private void shrinkIfNeeded() {
+        int minCapacity = Math.max(initialCapacity, DEFAULT_CAPACITY);
+        if (shrink && size <= elements.length >> 2 && elements.length > minCapacity) {
+            // the length is not always a power-of-two multiple of the minimum after pushAll, so halving is capped
+            elements = Arrays.copyOf(elements, Math.max(elements.length >> 1, minCapacity));
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.bobocode.cs;
 
 import com.bobocode.cs.exception.EmptyStackException;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 /**
  * {@link LinkedStack} is a stack implementation that is based on singly linked generic nodes.
@@ -25,8 +24,9 @@ public class LinkedStack<T> implements Stack<T> {
      */
     public static <T> LinkedStack<T> of(T... elements) {
         LinkedStack<T> stack = new LinkedStack<>();
-        Stream.of(elements)
-                .forEach(stack::push);
+        for (T element : elements) {
+            stack.push(element);
+        }
         return stack;
     }
 
@@ -0,0 +1,99 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * {@link TreiberStack} is a lock-free thread-safe stack implementation that is based on singly linked generic nodes.
+ * Both {@link #push(Object)} and {@link #pop()} read the head, prepare a new head, and replace the old one with a
+ * single CAS. If another thread changed the head in the meantime, the CAS fails and the operation is retried.
+ * <p>
+ * Nodes are immutable once they are published, and a popped node is never reused, so a thread that read a stale head
+ * cannot corrupt the stack (the ABA problem is prevented by the garbage collector). The stack does not keep a size
+ * field, since a shared counter would be a second point of contention. Method {@link #size()} counts nodes, so it
+ * takes O(n) time and its result may be outdated if the stack is modified concurrently.
+ *
+ * @param <T> generic type parameter
+ */
+public class TreiberStack<T> implements Stack<T> {
+    private static final VarHandle HEAD;
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(TreiberStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+
+    /**
+     * The method pushes an element onto the top of this stack.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        do {
+            newNode.next = head;
+        } while (!HEAD.compareAndSet(this, newNode.next, newNode));
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        Node<T> oldHead;
+        do {
+            oldHead = head;
+            if (oldHead == null) {
+                throw new EmptyStackException();
+            }
+        } while (!HEAD.compareAndSet(this, oldHead, oldHead.next));
+        return oldHead.element;
+    }
+
+    /**
+     * Returns the number of elements in the stack. It counts nodes, so it takes O(n) time.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    private static class Node<T> {
+        final T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+}
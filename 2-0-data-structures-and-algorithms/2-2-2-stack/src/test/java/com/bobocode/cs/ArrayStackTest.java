@@ -0,0 +1,123 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ArrayStackTest {
+
+    @Test
+    void popReturnsElementsInLifoOrder() {
+        ArrayStack<Integer> stack = new ArrayStack<>(1);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertThat(stack.size()).isEqualTo(100);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(stack.peek()).isEqualTo(i);
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void ofPutsTheLastElementOnTop() {
+        ArrayStack<String> stack = ArrayStack.of("a", "b", "c");
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo("c");
+    }
+
+    @Test
+    void popAndPeekThrowExceptionWhenStackIsEmpty() {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    void nullElementsAreNotSupported() {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+        assertThatNullPointerException().isThrownBy(() -> stack.pushAll(new Integer[]{1, null}));
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void negativeCapacityIsNotSupported() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<>(-1));
+    }
+
+    @Test
+    void pushAllAndPopInto() {
+        ArrayStack<Integer> stack = ArrayStack.of(1, 2);
+        stack.pushAll(new Integer[]{3, 4, 5});
+        Integer[] target = new Integer[4];
+
+        assertThat(stack.popInto(target, 3)).isEqualTo(3);
+        assertThat(target).containsExactly(5, 4, 3, null);
+        assertThat(stack.popInto(target, 4)).isEqualTo(2);
+        assertThat(target).containsExactly(2, 1, 3, null);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void popIntoChecksTargetLength() {
+        ArrayStack<Integer> stack = ArrayStack.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> stack.popInto(new Integer[1], 2));
+    }
+
+    @Test
+    void stackShrinksWhenEnabled() {
+        ArrayStack<Integer> stack = new ArrayStack<>(16, true);
+        for (int i = 0; i < 1024; i++) {
+            stack.push(i);
+        }
+        assertThat(stack.capacity()).isEqualTo(1024);
+
+        while (stack.size() > 1) {
+            stack.pop();
+        }
+
+        assertThat(stack.capacity()).isEqualTo(16);
+        assertThat(stack.pop()).isZero();
+    }
+
+    @Test
+    void stackDoesNotShrinkBelowInitialCapacityAfterPushAll() {
+        ArrayStack<Integer> stack = new ArrayStack<>(20, true);
+        Integer[] elements = new Integer[50];
+        Arrays.fill(elements, 1);
+        stack.pushAll(elements);
+        assertThat(stack.capacity()).isEqualTo(50);
+
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+
+        assertThat(stack.capacity()).isEqualTo(20);
+    }
+
+    @Test
+    void stackDoesNotShrinkByDefault() {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        for (int i = 0; i < 1024; i++) {
+            stack.push(i);
+        }
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+
+        assertThat(stack.capacity()).isEqualTo(1024);
+    }
+}
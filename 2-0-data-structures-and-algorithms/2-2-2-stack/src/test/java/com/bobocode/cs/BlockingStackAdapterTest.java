@@ -0,0 +1,81 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class BlockingStackAdapterTest {
+    private final BlockingStackAdapter<Integer> stack = new BlockingStackAdapter<>(new LinkedStack<>(), 2);
+
+    @Test
+    void nonBlockingOperations() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+
+        stack.push(1);
+        stack.push(2);
+
+        assertThat(stack.size()).isEqualTo(2);
+        assertThatIllegalStateException().isThrownBy(() -> stack.push(3));
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void capacityShouldNotBeLessThanStackSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingStackAdapter<>(LinkedStack.of(1, 2), 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingStackAdapter<>(new LinkedStack<>(), 0));
+    }
+
+    @Test
+    void pollWithTimeoutReturnsNullIfStackStaysEmpty() throws InterruptedException {
+        assertThat(stack.poll(20, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void takeWaitsForElement() throws Exception {
+        CompletableFuture<Integer> taken = new CompletableFuture<>();
+        Thread consumer = Thread.ofVirtual().start(() -> {
+            try {
+                taken.complete(stack.take());
+            } catch (InterruptedException e) {
+                taken.completeExceptionally(e);
+            }
+        });
+
+        Thread.sleep(20);
+        assertThat(taken).isNotDone();
+
+        stack.put(7);
+        assertThat(taken.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+        consumer.join();
+    }
+
+    @Test
+    void putWaitsForFreeSpace() throws Exception {
+        stack.put(1);
+        stack.put(2);
+        Thread producer = Thread.ofVirtual().start(() -> {
+            try {
+                stack.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread.sleep(20);
+        assertThat(stack.size()).isEqualTo(2);
+
+        assertThat(stack.take()).isEqualTo(2);
+        producer.join(5_000);
+        assertThat(stack.poll(5, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(stack.poll(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs threads that push unique elements and pop elements of a thread-safe stack at the same time, and checks that
+ * every pushed element is popped exactly once.
+ */
+class ConcurrentStackTester {
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    static void pushAndPopConcurrently(Stack<Integer> stack) throws Exception {
+        Set<Integer> popped = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        stack.push(thread * ELEMENTS_PER_THREAD + i);
+                        if (i % 2 == 1) {
+                            popTwice(stack, popped);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        while (!stack.isEmpty()) {
+            assertThat(popped.add(stack.pop())).isTrue();
+        }
+
+        assertThat(popped).hasSize(THREADS * ELEMENTS_PER_THREAD);
+    }
+
+    private static void popTwice(Stack<Integer> stack, Set<Integer> popped) {
+        for (int i = 0; i < 2; i++) {
+            try {
+                assertThat(popped.add(stack.pop())).isTrue();
+            } catch (EmptyStackException e) {
+                // another thread popped the element pushed by this one, it will be popped at the end
+            }
+        }
+    }
+}
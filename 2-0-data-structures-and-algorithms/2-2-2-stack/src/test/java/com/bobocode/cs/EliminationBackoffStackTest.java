@@ -0,0 +1,40 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class EliminationBackoffStackTest {
+    private final Stack<Integer> stack = new EliminationBackoffStack<>(4);
+
+    @Test
+    void popReturnsElementsInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+
+        assertThat(stack.size()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+    }
+
+    @Test
+    void invalidNumberOfSlots() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new EliminationBackoffStack<>(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new EliminationBackoffStack<>(65));
+    }
+
+    @Test
+    void concurrentPushesAndPopsKeepEveryElement() throws Exception {
+        ConcurrentStackTester.pushAndPopConcurrently(stack);
+    }
+
+    @Test
+    void singleSlotMaximizesElimination() throws Exception {
+        ConcurrentStackTester.pushAndPopConcurrently(new EliminationBackoffStack<>(1));
+    }
+}
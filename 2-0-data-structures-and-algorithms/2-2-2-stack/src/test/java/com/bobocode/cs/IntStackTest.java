@@ -0,0 +1,74 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntStackTest {
+
+    @Test
+    void popReturnsValuesInLifoOrder() {
+        IntStack stack = new IntStack(0);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        assertThat(stack.size()).isEqualTo(100);
+        for (int i = 99; i >= 0; i--) {
+            assertThat(stack.peek()).isEqualTo(i);
+            assertThat(stack.pop()).isEqualTo(i);
+        }
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void popAndPeekThrowExceptionWhenStackIsEmpty() {
+        IntStack stack = new IntStack();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::peek);
+    }
+
+    @Test
+    void pushAllAndPopInto() {
+        IntStack stack = IntStack.of(1, 2);
+        stack.pushAll(new int[]{3, 4, 5});
+        int[] target = new int[4];
+
+        assertThat(stack.popInto(target, 3)).isEqualTo(3);
+        assertThat(target).containsExactly(5, 4, 3, 0);
+        assertThat(stack.popInto(target, 4)).isEqualTo(2);
+        assertThat(target).containsExactly(2, 1, 3, 0);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void stackShrinksWhenEnabled() {
+        IntStack stack = new IntStack(16, true);
+        for (int i = 0; i < 1024; i++) {
+            stack.push(i);
+        }
+        assertThat(stack.capacity()).isEqualTo(1024);
+
+        while (stack.size() > 1) {
+            stack.pop();
+        }
+
+        assertThat(stack.capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void stackDoesNotShrinkBelowInitialCapacityAfterPushAll() {
+        IntStack stack = new IntStack(20, true);
+        stack.pushAll(new int[50]);
+        assertThat(stack.capacity()).isEqualTo(50);
+
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+
+        assertThat(stack.capacity()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,128 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link LinkedStack}, {@link ArrayStack} and {@link IntStack} on the pattern of an
+ * expression evaluator: push {@code depth} operands, then pop them. {@link #main(String[])} runs it with
+ * {@link GCProfiler} (the same as {@code -prof gc}), so {@code gc.alloc.rate.norm} shows bytes allocated per
+ * operation. The stacks are reused across operations, so array stacks allocate nothing once they have grown.
+ * <p>
+ * Values are taken from a preallocated array of {@link Integer}, so the boxing of operands does not count towards
+ * allocations of the object stacks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackAllocationBenchmark {
+    @Param({"4", "64", "1024"})
+    private int depth;
+
+    private Integer[] values;
+    private Integer[] buffer;
+    private int[] intValues;
+    private int[] intBuffer;
+    private LinkedStack<Integer> linkedStack;
+    private ArrayStack<Integer> arrayStack;
+    private IntStack intStack;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[depth];
+        buffer = new Integer[depth];
+        intValues = new int[depth];
+        intBuffer = new int[depth];
+        for (int i = 0; i < depth; i++) {
+            values[i] = i;
+            intValues[i] = i;
+        }
+        linkedStack = new LinkedStack<>();
+        arrayStack = new ArrayStack<>();
+        intStack = new IntStack();
+    }
+
+    @Benchmark
+    public int linkedStack() {
+        for (Integer value : values) {
+            linkedStack.push(value);
+        }
+        int sum = 0;
+        while (!linkedStack.isEmpty()) {
+            sum += linkedStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arrayStack() {
+        for (Integer value : values) {
+            arrayStack.push(value);
+        }
+        int sum = 0;
+        while (!arrayStack.isEmpty()) {
+            sum += arrayStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arrayStackBulk() {
+        arrayStack.pushAll(values);
+        int popped = arrayStack.popInto(buffer, depth);
+        int sum = 0;
+        for (int i = 0; i < popped; i++) {
+            sum += buffer[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int intStack() {
+        for (int value : intValues) {
+            intStack.push(value);
+        }
+        int sum = 0;
+        while (!intStack.isEmpty()) {
+            sum += intStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int intStackBulk() {
+        intStack.pushAll(intValues);
+        int popped = intStack.popInto(intBuffer, depth);
+        int sum = 0;
+        for (int i = 0; i < popped; i++) {
+            sum += intBuffer[i];
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StackAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares throughput of {@link TreiberStack}, {@link EliminationBackoffStack} and a
+ * {@link LinkedStack} guarded by {@code synchronized} under contention. Every operation is a push followed by a pop,
+ * so the stack stays small and all threads fight for its top. {@link #main(String[])} runs it with 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackContentionBenchmark {
+    private static final Integer ELEMENT = 42;
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Param({"treiber", "elimination", "synchronized"})
+    private String implementation;
+
+    private Stack<Integer> stack;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stack = switch (implementation) {
+            case "treiber" -> new TreiberStack<>();
+            case "elimination" -> new EliminationBackoffStack<>();
+            case "synchronized" -> new SynchronizedStack<>(new LinkedStack<>());
+            default -> throw new IllegalArgumentException(implementation);
+        };
+    }
+
+    @Benchmark
+    public Integer pushAndPop() {
+        stack.push(ELEMENT);
+        try {
+            return stack.pop();
+        } catch (EmptyStackException e) {
+            // another thread popped the pushed element
+            return null;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .include(StackContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+
+    private record SynchronizedStack<T>(Stack<T> stack) implements Stack<T> {
+        @Override
+        public synchronized void push(T element) {
+            stack.push(element);
+        }
+
+        @Override
+        public synchronized T pop() {
+            return stack.pop();
+        }
+
+        @Override
+        public synchronized int size() {
+            return stack.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return stack.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class TreiberStackTest {
+    private final Stack<Integer> stack = new TreiberStack<>();
+
+    @Test
+    void popReturnsElementsInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(stack::pop);
+    }
+
+    @Test
+    void nullElementsAreNotSupported() {
+        assertThatNullPointerException().isThrownBy(() -> stack.push(null));
+    }
+
+    @Test
+    void concurrentPushesAndPopsKeepEveryElement() throws Exception {
+        ConcurrentStackTester.pushAndPopConcurrently(stack);
+    }
+}
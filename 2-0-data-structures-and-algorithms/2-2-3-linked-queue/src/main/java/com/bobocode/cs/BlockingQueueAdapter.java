@@ -0,0 +1,218 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlockingQueueAdapter} turns any {@link Queue} into a thread-safe queue with blocking operations. Consumers
+ * wait in {@link #take()} or {@link #poll(long, TimeUnit)} until an element is added, and producers wait in
+ * {@link #put(Object)} or {@link #offer(Object, long, TimeUnit)} until there is free space, instead of spinning on
+ * {@link #poll()}.
+ * <p>
+ * All operations are guarded by a {@link ReentrantLock}, and waiting threads are parked on its {@link Condition}s.
+ * Unlike {@code synchronized}, it does not pin a virtual thread to its carrier thread while it waits, so thousands of
+ * waiting virtual consumers do not occupy platform threads.
+ * <p>
+ * The adapter should be the only way to access the wrapped queue. It keeps its own element counter, so
+ * {@link #size()} takes constant time even if the wrapped queue counts elements in O(n).
+ *
+ * @param <T> a generic parameter
+ */
+public class BlockingQueueAdapter<T> implements Queue<T> {
+    private final Queue<T> queue;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int size;
+
+    /**
+     * Creates a bounded adapter. If the wrapped queue is bounded itself, the capacity should not exceed its capacity.
+     *
+     * @param queue    an empty queue to wrap
+     * @param capacity max number of elements
+     * @throws IllegalArgumentException if capacity is not positive or the queue is not empty
+     */
+    public BlockingQueueAdapter(Queue<T> queue, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive");
+        }
+        if (!queue.isEmpty()) {
+            throw new IllegalArgumentException("Queue should be empty");
+        }
+        this.queue = queue;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates an unbounded adapter, so {@link #put(Object)} never waits.
+     *
+     * @param queue an empty queue to wrap
+     */
+    public BlockingQueueAdapter(Queue<T> queue) {
+        this(queue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds an element to the end of the queue without waiting.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        lock.lock();
+        try {
+            if (size == capacity) {
+                throw new IllegalStateException("Queue is full");
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting for free space if necessary.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        Objects.requireNonNull(element);
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                notFull.await();
+            }
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the given time for free space if necessary.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the time elapsed before there was free space
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head without waiting.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting until an element is added if necessary.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the given time until an element is added if necessary.
+     *
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return an element that was retrieved from the head or null if the time elapsed before an element was added
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void enqueue(T element) {
+        queue.add(element);
+        size++;
+        notEmpty.signal();
+    }
+
+    private T dequeue() {
+        T element = queue.poll();
+        size--;
+        notFull.signal();
+        return element;
+    }
+}
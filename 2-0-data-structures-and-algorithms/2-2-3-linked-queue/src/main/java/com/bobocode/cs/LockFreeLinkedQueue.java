@@ -0,0 +1,138 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * {@link LockFreeLinkedQueue} is a thread-safe FIFO {@link Queue} based on the Michael-Scott algorithm. Any number of
+ * producer and consumer threads can use it at the same time without locking: {@link #add(Object)} links a new node
+ * with a CAS on the {@code next} reference of the last node, and {@link #poll()} moves the head with a CAS.
+ * <p>
+ * The queue always starts with a dummy node, so head and tail are never null and producers do not touch the head.
+ * The tail may lag one node behind the last node. Any thread that notices it moves the tail forward before going on,
+ * so a thread that was suspended in the middle of an operation never blocks the others.
+ * <p>
+ * The queue does not keep a size field, since a shared counter would be another point of contention. Method
+ * {@link #size()} counts nodes, so it takes O(n) time and its result may be outdated if the queue is modified
+ * concurrently. Null elements are not supported.
+ *
+ * @param <T> a generic parameter
+ */
+public class LockFreeLinkedQueue<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(LockFreeLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(LockFreeLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+
+    public LockFreeLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = new Node<>(element);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode);
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                T element = next.element;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    next.element = null;
+                    return element;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. It counts nodes, so it takes O(n) time.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head.next; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            if (node.element != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * A node of the queue. The element of the head node is cleared once it becomes a new dummy, so polled elements can
+     * be garbage collected.
+     */
+    private static class Node<T> {
+        volatile T element;
+        volatile Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link RingBufferQueue} is a bounded FIFO {@link Queue} that stores elements in a preallocated array, so adding an
+ * element does not allocate a node. The capacity is a power of two, and an element index is a sequence number masked
+ * by {@code capacity - 1}.
+ * <p>
+ * The queue supports one consumer thread and either a single producer thread ({@link #singleProducer(int)}) or any
+ * number of producer threads ({@link #multiProducer(int)}). A single producer publishes elements with plain ordered
+ * writes, while multiple producers claim slots with a CAS on the producer sequence. The consumer takes an element
+ * from a slot and clears it, so an empty slot tells it that the queue is empty or that a claimed element is not
+ * written yet.
+ * <p>
+ * Producer and consumer sequences are updated by different threads, so each of them is padded to occupy its own cache
+ * line. Otherwise, every update of one sequence would invalidate the other one in the cache of another core (false
+ * sharing). A single producer also caches the consumer sequence and rereads it only when the queue looks full.
+ * <p>
+ * {@link #offerBatch(Object[])} and {@link #drainTo(Consumer, int)} move many elements with a single sequence update.
+ * Null elements are not supported.
+ *
+ * @param <T> a generic parameter
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int MAX_SPINS = 100;
+
+    private final Object[] elements;
+    private final int mask;
+    private final boolean multiProducer;
+    private final PaddedSequence producerSequence = new PaddedSequence();
+    private final PaddedSequence consumerSequence = new PaddedSequence();
+
+    private RingBufferQueue(int capacity, boolean multiProducer) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity should be in range [1, " + MAX_CAPACITY + "]");
+        }
+        int powerOfTwoCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[powerOfTwoCapacity];
+        this.mask = powerOfTwoCapacity - 1;
+        this.multiProducer = multiProducer;
+    }
+
+    /**
+     * Creates a queue for one producer thread and one consumer thread.
+     *
+     * @param capacity max number of elements, rounded up to a power of two
+     * @param <T>      a generic parameter
+     * @return a new queue
+     * @throws IllegalArgumentException if capacity is not positive or greater than 2^30
+     */
+    public static <T> RingBufferQueue<T> singleProducer(int capacity) {
+        return new RingBufferQueue<>(capacity, false);
+    }
+
+    /**
+     * Creates a queue for many producer threads and one consumer thread.
+     *
+     * @param capacity max number of elements, rounded up to a power of two
+     * @param <T>      a generic parameter
+     * @return a new queue
+     * @throws IllegalArgumentException if capacity is not positive or greater than 2^30
+     */
+    public static <T> RingBufferQueue<T> multiProducer(int capacity) {
+        return new RingBufferQueue<>(capacity, true);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if there is free space.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long sequence = claim(1);
+        if (sequence < 0) {
+            return false;
+        }
+        ELEMENTS.setRelease(elements, index(sequence), element);
+        return true;
+    }
+
+    /**
+     * Adds as many elements of the array as there is free space for. Elements are added in the array order, and the
+     * producer sequence is updated only once.
+     *
+     * @param batch elements to add
+     * @return a number of added elements, it is less than the array length if the queue became full
+     */
+    public int offerBatch(T[] batch) {
+        for (T element : batch) {
+            Objects.requireNonNull(element);
+        }
+        if (batch.length == 0) {
+            return 0;
+        }
+        int count = Math.min(batch.length, elements.length);
+        long sequence;
+        while ((sequence = claim(count)) < 0) {
+            count = Math.min(count, freeSlots());
+            if (count == 0) {
+                return 0;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            ELEMENTS.setRelease(elements, index(sequence + i), batch[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves and removes queue head. It must be called only from the consumer thread.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        long sequence = consumerSequence.value;
+        T element = take(sequence);
+        if (element != null) {
+            consumerSequence.setRelease(sequence + 1);
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxBatch} elements from the head and passes them to the consumer in FIFO
+     * order. The consumer sequence is updated only once, after the whole batch. If the consumer throws, the elements
+     * passed to it so far, including the one it failed on, stay removed. It must be called only from the consumer
+     * thread.
+     *
+     * @param consumer accepts removed elements
+     * @param maxBatch max number of elements to remove
+     * @return a number of removed elements
+     * @throws IllegalArgumentException if max batch is negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxBatch) {
+        if (maxBatch < 0) {
+            throw new IllegalArgumentException("Max batch should not be negative");
+        }
+        long sequence = consumerSequence.value;
+        int count = 0;
+        T element;
+        try {
+            while (count < maxBatch && (element = take(sequence + count)) != null) {
+                // the slot is already cleared, so the element is removed even if the consumer throws
+                count++;
+                consumer.accept(element);
+            }
+        } finally {
+            if (count > 0) {
+                consumerSequence.setRelease(sequence + count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a size of the queue. If the queue is modified concurrently, the result may be outdated.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long consumed = consumerSequence.value;
+            long produced = producerSequence.value;
+            if (consumed == consumerSequence.value) {
+                return (int) Math.max(0, Math.min(produced - consumed, elements.length));
+            }
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a max number of elements in the queue.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Claims {@code count} consecutive slots for the producer.
+     *
+     * @return a sequence of the first claimed slot, or -1 if there is not enough free space
+     */
+    private long claim(int count) {
+        if (!multiProducer) {
+            long sequence = producerSequence.value;
+            long wrapPoint = sequence + count - elements.length;
+            if (wrapPoint > producerSequence.cachedOppositeValue) {
+                producerSequence.cachedOppositeValue = consumerSequence.value;
+                if (wrapPoint > producerSequence.cachedOppositeValue) {
+                    return -1;
+                }
+            }
+            producerSequence.setRelease(sequence + count);
+            return sequence;
+        }
+        while (true) {
+            long sequence = producerSequence.value;
+            if (sequence + count - elements.length > consumerSequence.value) {
+                return -1;
+            }
+            if (producerSequence.compareAndSet(sequence, sequence + count)) {
+                return sequence;
+            }
+        }
+    }
+
+    private int freeSlots() {
+        return (int) (elements.length - (producerSequence.value - consumerSequence.value));
+    }
+
+    /**
+     * Takes an element of the consumer slot and clears the slot. With multiple producers, a slot may be claimed but not
+     * written yet. In this case the consumer waits for the element, since the following slots cannot be read before it.
+     * It spins for a short while and then yields, so a preempted producer gets a chance to finish the write.
+     */
+    private T take(long sequence) {
+        int index = index(sequence);
+        T element = (T) ELEMENTS.getAcquire(elements, index);
+        if (element == null) {
+            if (!multiProducer || sequence == producerSequence.value) {
+                return null;
+            }
+            for (int spins = 0; (element = (T) ELEMENTS.getAcquire(elements, index)) == null; spins++) {
+                if (spins < MAX_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+        ELEMENTS.setRelease(elements, index, null);
+        return element;
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    /**
+     * A sequence counter that occupies a cache line, so updates of the producer sequence and consumer sequence do not
+     * interfere. Superclass fields are laid out before subclass fields, so the value is surrounded by padding fields
+     * declared in the classes above and below it.
+     */
+    private static final class PaddedSequence extends SequenceValue {
+        long p9, p10, p11, p12, p13, p14, p15;
+    }
+
+    private static class SequenceValue extends LeftPadding {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        volatile long value;
+        long cachedOppositeValue;
+
+        void setRelease(long newValue) {
+            VALUE.setRelease(this, newValue);
+        }
+
+        boolean compareAndSet(long expectedValue, long newValue) {
+            return VALUE.compareAndSet(this, expectedValue, newValue);
+        }
+    }
+
+    private abstract static class LeftPadding {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+}
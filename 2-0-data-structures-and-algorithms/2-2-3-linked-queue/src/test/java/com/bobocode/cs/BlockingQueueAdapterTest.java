@@ -0,0 +1,110 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class BlockingQueueAdapterTest {
+    private final BlockingQueueAdapter<Integer> queue = new BlockingQueueAdapter<>(new LinkedQueue<>(), 2);
+
+    @Test
+    void nonBlockingOperations() {
+        assertThat(queue.poll()).isNull();
+
+        queue.add(1);
+        queue.add(2);
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThatIllegalStateException().isThrownBy(() -> queue.add(3));
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void invalidArguments() {
+        LinkedQueue<Integer> notEmptyQueue = new LinkedQueue<>();
+        notEmptyQueue.add(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingQueueAdapter<>(new LinkedQueue<>(), 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingQueueAdapter<>(notEmptyQueue));
+    }
+
+    @Test
+    void pollWithTimeoutReturnsNullIfQueueStaysEmpty() throws InterruptedException {
+        long start = System.nanoTime();
+
+        assertThat(queue.poll(50, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void offerWithTimeoutReturnsFalseIfQueueStaysFull() throws InterruptedException {
+        queue.put(1);
+        queue.put(2);
+
+        assertThat(queue.offer(3, 10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void takeWaitsForElement() throws Exception {
+        CompletableFuture<Integer> taken = new CompletableFuture<>();
+        Thread consumer = Thread.ofVirtual().start(() -> {
+            try {
+                taken.complete(queue.take());
+            } catch (InterruptedException e) {
+                taken.completeExceptionally(e);
+            }
+        });
+
+        Thread.sleep(20);
+        assertThat(taken).isNotDone();
+
+        queue.put(7);
+        assertThat(taken.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+        consumer.join();
+    }
+
+    @Test
+    void putWaitsForFreeSpace() throws Exception {
+        queue.put(1);
+        queue.put(2);
+        Thread producer = Thread.ofVirtual().start(() -> {
+            try {
+                queue.put(3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread.sleep(20);
+        assertThat(queue.size()).isEqualTo(2);
+
+        assertThat(queue.take()).isEqualTo(1);
+        producer.join(5_000);
+        assertThat(queue.poll(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(queue.poll(5, TimeUnit.SECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    void takeIsInterruptible() throws Exception {
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        Thread consumer = Thread.ofVirtual().start(() -> {
+            try {
+                queue.take();
+            } catch (InterruptedException e) {
+                failure.complete(e);
+            }
+        });
+
+        consumer.interrupt();
+
+        assertThat(failure.get(5, TimeUnit.SECONDS)).isInstanceOf(InterruptedException.class);
+    }
+}
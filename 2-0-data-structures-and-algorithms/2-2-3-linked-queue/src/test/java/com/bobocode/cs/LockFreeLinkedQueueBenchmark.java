@@ -0,0 +1,100 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares throughput of {@link LockFreeLinkedQueue} with {@link ConcurrentLinkedQueue} and with
+ * a {@link LinkedQueue} guarded by {@code synchronized}. Every benchmark group consists of producer threads that add
+ * elements and consumer threads that poll them (a poll of an empty queue counts as an operation too).
+ * {@link #main(String[])} runs the groups with different numbers of producers and consumers.
+ * <p>
+ * Producers may outpace consumers, so the queues are recreated before every iteration and iterations are kept short.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class LockFreeLinkedQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+    private static final int[][] PRODUCERS_AND_CONSUMERS = {{1, 1}, {2, 2}, {4, 4}, {1, 4}, {4, 1}, {8, 8}};
+
+    private LockFreeLinkedQueue<Integer> lockFreeQueue;
+    private ConcurrentLinkedQueue<Integer> concurrentLinkedQueue;
+    private LinkedQueue<Integer> synchronizedQueue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        lockFreeQueue = new LockFreeLinkedQueue<>();
+        concurrentLinkedQueue = new ConcurrentLinkedQueue<>();
+        synchronizedQueue = new LinkedQueue<>();
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    public void lockFreeAdd() {
+        lockFreeQueue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    public Integer lockFreePoll() {
+        return lockFreeQueue.poll();
+    }
+
+    @Benchmark
+    @Group("concurrentLinkedQueue")
+    public void concurrentLinkedQueueAdd() {
+        concurrentLinkedQueue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("concurrentLinkedQueue")
+    public Integer concurrentLinkedQueuePoll() {
+        return concurrentLinkedQueue.poll();
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    public void synchronizedAdd() {
+        synchronized (synchronizedQueue) {
+            synchronizedQueue.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    public Integer synchronizedPoll() {
+        synchronized (synchronizedQueue) {
+            return synchronizedQueue.poll();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int[] producersAndConsumers : PRODUCERS_AND_CONSUMERS) {
+            new Runner(new OptionsBuilder()
+                    .include(LockFreeLinkedQueueBenchmark.class.getSimpleName())
+                    .threadGroups(producersAndConsumers)
+                    .build())
+                    .run();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class LockFreeLinkedQueueTest {
+    private final Queue<Integer> queue = new LockFreeLinkedQueue<>();
+
+    @Test
+    void pollReturnsElementsInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    void sizeAndIsEmpty() {
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isZero();
+
+        queue.add(1);
+        queue.add(2);
+        assertThat(queue.isEmpty()).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+
+        queue.poll();
+        queue.poll();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void nullElementsAreNotSupported() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void concurrentProducersAndConsumersTransferEveryElementOnce() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 100_000;
+        int total = producers * elementsPerProducer;
+        AtomicInteger consumed = new AtomicInteger();
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        int[][] lastSeenByConsumer = new int[consumers][producers];
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.add(producer * elementsPerProducer + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                int[] lastSeen = lastSeenByConsumer[c];
+                Arrays.fill(lastSeen, -1);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (consumed.get() < total) {
+                        Integer element = queue.poll();
+                        if (element != null) {
+                            int producer = element / elementsPerProducer;
+                            assertThat(element).isGreaterThan(lastSeen[producer]);
+                            lastSeen[producer] = element;
+                            assertThat(received.add(element)).isTrue();
+                            consumed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(received).hasSize(total);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
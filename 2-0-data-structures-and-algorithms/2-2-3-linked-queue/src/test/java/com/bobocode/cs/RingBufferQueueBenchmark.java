@@ -0,0 +1,113 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link RingBufferQueue} with {@link LockFreeLinkedQueue} as a hand-off between
+ * producer and consumer threads. It measures single-producer queues with per-element and batched operations, and
+ * multi-producer queues with four producers. Failed offers and empty polls count as operations too.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RingBufferQueueBenchmark {
+    private static final int CAPACITY = 1 << 14;
+    private static final int BATCH = 64;
+    private static final Integer ELEMENT = 42;
+
+    private RingBufferQueue<Integer> singleProducerQueue;
+    private RingBufferQueue<Integer> multiProducerQueue;
+    private LockFreeLinkedQueue<Integer> linkedQueue;
+    private Integer[] batch;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        singleProducerQueue = RingBufferQueue.singleProducer(CAPACITY);
+        multiProducerQueue = RingBufferQueue.multiProducer(CAPACITY);
+        linkedQueue = new LockFreeLinkedQueue<>();
+        batch = new Integer[BATCH];
+        Arrays.fill(batch, ELEMENT);
+    }
+
+    @Benchmark
+    @Group("singleProducer")
+    public boolean singleProducerOffer() {
+        return singleProducerQueue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("singleProducer")
+    public Integer singleProducerPoll() {
+        return singleProducerQueue.poll();
+    }
+
+    @Benchmark
+    @Group("singleProducerBatch")
+    @OperationsPerInvocation(BATCH)
+    public int singleProducerOfferBatch() {
+        return singleProducerQueue.offerBatch(batch);
+    }
+
+    @Benchmark
+    @Group("singleProducerBatch")
+    @OperationsPerInvocation(BATCH)
+    public int singleProducerDrainTo(Blackhole blackhole) {
+        return singleProducerQueue.drainTo(blackhole::consume, BATCH);
+    }
+
+    @Benchmark
+    @Group("multiProducer")
+    @GroupThreads(4)
+    public boolean multiProducerOffer() {
+        return multiProducerQueue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("multiProducer")
+    public Integer multiProducerPoll() {
+        return multiProducerQueue.poll();
+    }
+
+    @Benchmark
+    @Group("linkedMultiProducer")
+    @GroupThreads(4)
+    public void linkedAdd() {
+        linkedQueue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("linkedMultiProducer")
+    public Integer linkedPoll() {
+        return linkedQueue.poll();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RingBufferQueueBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,219 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class RingBufferQueueTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(RingBufferQueue.singleProducer(1).capacity()).isEqualTo(1);
+        assertThat(RingBufferQueue.singleProducer(5).capacity()).isEqualTo(8);
+        assertThat(RingBufferQueue.multiProducer(16).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void invalidCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> RingBufferQueue.singleProducer(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> RingBufferQueue.multiProducer((1 << 30) + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void pollReturnsElementsInFifoOrderAcrossWrapAround(boolean multiProducer) {
+        RingBufferQueue<Integer> queue = create(4, multiProducer);
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+            queue.add(i + 100);
+            assertThat(queue.size()).isEqualTo(2);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(i + 100);
+            assertThat(queue.poll()).isNull();
+            assertThat(queue.isEmpty()).isTrue();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void offerReturnsFalseWhenQueueIsFull(boolean multiProducer) {
+        RingBufferQueue<Integer> queue = create(2, multiProducer);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> queue.add(3));
+
+        queue.poll();
+        assertThat(queue.offer(3)).isTrue();
+    }
+
+    @Test
+    void nullElementsAreNotSupported() {
+        RingBufferQueue<Integer> queue = RingBufferQueue.singleProducer(4);
+
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+        assertThatNullPointerException().isThrownBy(() -> queue.offerBatch(new Integer[]{1, null}));
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void offerBatchAddsAsManyElementsAsFit(boolean multiProducer) {
+        RingBufferQueue<Integer> queue = create(4, multiProducer);
+        queue.add(0);
+
+        assertThat(queue.offerBatch(new Integer[]{1, 2, 3, 4, 5})).isEqualTo(3);
+        assertThat(queue.offerBatch(new Integer[]{6})).isZero();
+        assertThat(queue.size()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void drainToRemovesUpToMaxBatchElements(boolean multiProducer) {
+        RingBufferQueue<Integer> queue = create(8, multiProducer);
+        queue.offerBatch(new Integer[]{1, 2, 3, 4, 5});
+        List<Integer> drained = new ArrayList<>();
+
+        assertThat(queue.drainTo(drained::add, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(queue.drainTo(drained::add, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2, 3, 4, 5);
+        assertThat(queue.drainTo(drained::add, 10)).isZero();
+        assertThatIllegalArgumentException().isThrownBy(() -> queue.drainTo(drained::add, -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void drainToKeepsElementsRemovedWhenConsumerThrows(boolean multiProducer) {
+        RingBufferQueue<Integer> queue = create(8, multiProducer);
+        queue.offerBatch(new Integer[]{1, 2, 3, 4, 5});
+        List<Integer> drained = new ArrayList<>();
+
+        assertThatIllegalStateException().isThrownBy(() -> queue.drainTo(element -> {
+            if (element == 3) {
+                throw new IllegalStateException();
+            }
+            drained.add(element);
+        }, 10));
+
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(4);
+        assertThat(queue.drainTo(drained::add, 10)).isEqualTo(1);
+        assertThat(drained).containsExactly(1, 2, 5);
+    }
+
+    @Test
+    void singleProducerAndConsumerTransferElementsInOrder() throws Exception {
+        RingBufferQueue<Integer> queue = RingBufferQueue.singleProducer(64);
+        int total = 100_000;
+        List<Integer> received = new ArrayList<>(total);
+
+        runConcurrently(1, producer -> {
+            for (int i = 0; i < total; ) {
+                if (queue.offer(i)) {
+                    i++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        }, () -> {
+            while (received.size() < total) {
+                if (queue.drainTo(received::add, 16) == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+
+        for (int i = 0; i < total; i++) {
+            assertThat(received.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void multipleProducersKeepPerProducerOrder() throws Exception {
+        RingBufferQueue<Integer> queue = RingBufferQueue.multiProducer(64);
+        int producers = 4;
+        int elementsPerProducer = 50_000;
+        int[] lastSeen = {-1, -1, -1, -1};
+        int[] received = new int[1];
+
+        runConcurrently(producers, producer -> {
+            for (int i = 0; i < elementsPerProducer; ) {
+                int element = producer * elementsPerProducer + i;
+                if (i % 2 == 0 ? queue.offer(element) : queue.offerBatch(new Integer[]{element}) == 1) {
+                    i++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        }, () -> {
+            while (received[0] < producers * elementsPerProducer) {
+                Integer element = queue.poll();
+                if (element != null) {
+                    int producer = element / elementsPerProducer;
+                    assertThat(element).isGreaterThan(lastSeen[producer]);
+                    lastSeen[producer] = element;
+                    received[0]++;
+                } else {
+                    Thread.yield();
+                }
+            }
+        });
+
+        for (int producer = 0; producer < producers; producer++) {
+            assertThat(lastSeen[producer]).isEqualTo((producer + 1) * elementsPerProducer - 1);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    private static RingBufferQueue<Integer> create(int capacity, boolean multiProducer) {
+        return multiProducer ? RingBufferQueue.multiProducer(capacity) : RingBufferQueue.singleProducer(capacity);
+    }
+
+    private static void runConcurrently(int producers, ProducerTask producerTask, Runnable consumerTask)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    producerTask.run(producer);
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                consumerTask.run();
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ProducerTask {
+        void run(int producer);
+    }
+}
@@ -0,0 +1,97 @@
+package com.bobocode.cs;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures hand-off latency and CPU usage of {@link BlockingQueueAdapter} with {@value CONSUMERS} virtual-thread
+ * consumers. A producer puts {@value MESSAGES} timestamps at a fixed rate, parking between puts so it uses almost no
+ * CPU itself, and every consumer records the time between the put and its take. Waiting consumers are parked on a {@link java.util.concurrent.locks.Condition}, so they should
+ * not use CPU while the queue is empty.
+ * <p>
+ * The same load is repeated with consumers that spin on a non-blocking {@link Queue#poll()} with
+ * {@link Thread#yield()}, which is what callers had to do before blocking operations were available. The report shows
+ * latency percentiles and CPU time of the whole process per second of wall time.
+ * <p>
+ * It is a plain program rather than a JMH benchmark, because JMH measures the throughput of a benchmark method,
+ * while this load is paced by the producer.
+ */
+public class VirtualThreadHandOffBenchmark {
+    private static final int CONSUMERS = 10_000;
+    private static final int MESSAGES = 50_000;
+    private static final long PUT_INTERVAL_NANOS = 50_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        run("blocking take()", true);
+        run("spinning poll()", false);
+    }
+
+    private static void run(String name, boolean blocking) throws InterruptedException {
+        BlockingQueueAdapter<Long> queue = new BlockingQueueAdapter<>(new LinkedQueue<>());
+        long[] latencies = new long[MESSAGES];
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(CONSUMERS);
+        Thread[] consumers = new Thread[CONSUMERS];
+        for (int i = 0; i < CONSUMERS; i++) {
+            consumers[i] = Thread.ofVirtual().start(() -> {
+                try {
+                    while (true) {
+                        Long timestamp = blocking ? queue.take() : spinPoll(queue);
+                        long latency = System.nanoTime() - timestamp;
+                        int index = taken.getAndIncrement();
+                        if (index < MESSAGES) {
+                            latencies[index] = latency;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    finished.countDown();
+                }
+            });
+        }
+
+        long cpuStart = processCpuTime();
+        long wallStart = System.nanoTime();
+        long nextPut = wallStart;
+        for (int i = 0; i < MESSAGES; i++) {
+            long delay = nextPut - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            queue.put(System.nanoTime());
+            nextPut += PUT_INTERVAL_NANOS;
+        }
+        while (taken.get() < MESSAGES) {
+            Thread.sleep(1);
+        }
+        long wallTime = System.nanoTime() - wallStart;
+        long cpuTime = processCpuTime() - cpuStart;
+        for (Thread consumer : consumers) {
+            consumer.interrupt();
+        }
+        finished.await();
+
+        Arrays.sort(latencies);
+        System.out.printf("%-16s p50 = %6d us, p99 = %7d us, max = %7d us, CPU = %.2f cores%n", name,
+                latencies[MESSAGES / 2] / 1000, latencies[MESSAGES * 99 / 100] / 1000,
+                latencies[MESSAGES - 1] / 1000, (double) cpuTime / wallTime);
+    }
+
+    private static Long spinPoll(BlockingQueueAdapter<Long> queue) throws InterruptedException {
+        Long element;
+        while ((element = queue.poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread.yield();
+        }
+        return element;
+    }
+
+    private static long processCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+}
@@ -0,0 +1,323 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * {@link DoublyLinkedList} is a list implementation that is based on doubly linked generic nodes. Unlike
+ * {@link LinkedList}, every node keeps a reference to the previous node, so removing the last element is performed
+ * in constant time O(1).
+ * <p>
+ * To find a node by index, the list starts from the closest known node: the head, the tail, or a cursor. The cursor is
+ * the last accessed node and its index. Therefore, sequential access like {@code for i: get(i)} moves the cursor by one
+ * node per call and takes amortized O(1) time.
+ * <p>
+ * Iterators are fail-fast, they throw {@link ConcurrentModificationException} if the list is structurally modified
+ * while iterating.
+ *
+ * @param <T> generic type parameter
+ */
+public class DoublyLinkedList<T> implements List<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+    private Node<T> cursor;
+    private int cursorIndex;
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> DoublyLinkedList<T> of(T... elements) {
+        DoublyLinkedList<T> list = new DoublyLinkedList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        linkLast(element);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            linkLast(element);
+        } else {
+            Node<T> successor = findNodeByIndex(index);
+            Node<T> newNode = new Node<>(element);
+            newNode.prev = successor.prev;
+            newNode.next = successor;
+            if (successor.prev == null) {
+                head = newNode;
+            } else {
+                successor.prev.next = newNode;
+            }
+            successor.prev = newNode;
+            size++;
+            modCount++;
+            moveCursor(newNode, index);
+        }
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        findNodeByIndex(index).element = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return findNodeByIndex(index).element;
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        checkIsEmpty();
+        return head.element;
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        checkIsEmpty();
+        return tail.element;
+    }
+
+    /**
+     * Removes an elements by its position index. Removing the first or the last element is performed in constant
+     * time O(1). In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Node<T> node = findNodeByIndex(index);
+        Node<T> prev = node.prev;
+        Node<T> next = node.next;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+        size--;
+        modCount++;
+        if (next != null) {
+            moveCursor(next, index);
+        } else if (prev != null) {
+            moveCursor(prev, index - 1);
+        } else {
+            cursor = null;
+        }
+        return node.element;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> current = head; current != null; current = current.next) {
+            if (Objects.equals(current.element, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = tail = cursor = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements in proper sequence.
+     *
+     * @return an iterator
+     * @throws ConcurrentModificationException on {@link Iterator#next()} if the list was structurally modified
+     *                                         after the iterator was created
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new DoublyLinkedListIterator();
+    }
+
+    /**
+     * Returns a spliterator over the list elements. Since nodes cannot be split by index, it copies batches of
+     * elements into arrays when splitting, so parallel streams can process them in other threads.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    private void linkLast(T element) {
+        Node<T> newNode = new Node<>(element);
+        if (tail == null) {
+            head = tail = newNode;
+        } else {
+            newNode.prev = tail;
+            tail.next = newNode;
+            tail = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    private void checkIsEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Finds a node starting from the closest of three known positions: head, tail and the cursor. The found node
+     * becomes a new cursor.
+     */
+    private Node<T> findNodeByIndex(int index) {
+        Node<T> start = head;
+        int startIndex = 0;
+        int distance = index;
+        if (size - 1 - index < distance) {
+            start = tail;
+            startIndex = size - 1;
+            distance = size - 1 - index;
+        }
+        if (cursor != null && Math.abs(index - cursorIndex) < distance) {
+            start = cursor;
+            startIndex = cursorIndex;
+        }
+        Node<T> node = start;
+        for (int i = startIndex; i < index; i++) {
+            node = node.next;
+        }
+        for (int i = startIndex; i > index; i--) {
+            node = node.prev;
+        }
+        moveCursor(node, index);
+        return node;
+    }
+
+    private void moveCursor(Node<T> node, int index) {
+        cursor = node;
+        cursorIndex = index;
+    }
+
+    private class DoublyLinkedListIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private Node<T> next = head;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T element = next.element;
+            next = next.next;
+            return element;
+        }
+    }
+
+    private static class Node<T> {
+        T element;
+        Node<T> prev;
+        Node<T> next;
+
+        public Node(T element) {
+            this.element = element;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.bobocode.cs;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
+ * <p>
+ * Indexed access walks the nodes from the head, so scanning the list with {@link LinkedList#get(int)} takes O(n^2).
+ * Use {@link LinkedList#iterator()} or {@link LinkedList#stream()} instead, they visit every node once. Iterators are
+ * fail-fast, they throw {@link ConcurrentModificationException} if the list is structurally modified while iterating.
  *
  * @param <T> generic type parameter
  * @author Taras Boychuk
@@ -15,6 +23,7 @@ public class LinkedList<T> implements List<T> {
     private Node<T> head;
     private Node<T> tail;
     private int size;
+    private int modCount;
 
     /**
      * This method creates a list of provided elements
@@ -46,6 +55,7 @@ public class LinkedList<T> implements List<T> {
             tail = newNode;
         }
         size++;
+        modCount++;
     }
 
 
@@ -72,6 +82,7 @@ public class LinkedList<T> implements List<T> {
             current.next = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -141,9 +152,13 @@ public class LinkedList<T> implements List<T> {
         if (index == 0) {
             removedElem = head.element;
             head = head.next;
+            if (head == null) {
+                tail = null;
+            }
         } else if (index == size - 1) {
             removedElem = tail.element;
             prevNode = findNodeByIndex(index - 1);
+            prevNode.next = null;
             tail = prevNode;
         } else {
             checkIndex(index);
@@ -152,6 +167,7 @@ public class LinkedList<T> implements List<T> {
             prevNode.next = prevNode.next.next;
         }
         size--;
+        modCount++;
         return removedElem;
     }
 
@@ -200,6 +216,31 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         head = tail = null;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements in proper sequence. Every step is performed in constant
+     * time O(1)
+     *
+     * @return an iterator
+     * @throws ConcurrentModificationException on {@link Iterator#next()} if the list was structurally modified
+     *                                         after the iterator was created
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator();
+    }
+
+    /**
+     * Returns a spliterator over the list elements. Since nodes cannot be split by index, it copies batches of
+     * elements into arrays when splitting, so parallel streams can process them in other threads.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
     }
 
     private void checkIndex(int index) {
@@ -228,6 +269,29 @@ public class LinkedList<T> implements List<T> {
         return currentNode;
     }
 
+    private class LinkedListIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private Node<T> next = head;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T element = next.element;
+            next = next.next;
+            return element;
+        }
+    }
+
     private static class Node<T> {
         T element;
         Node<T> next;
@@ -0,0 +1,147 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DoublyLinkedListTest {
+
+    private DoublyLinkedList<Integer> intList = new DoublyLinkedList<>();
+
+    @Test
+    void addAndGet() {
+        intList.add(1);
+        intList.add(2);
+        intList.add(3);
+
+        assertThat(intList.get(0)).isEqualTo(1);
+        assertThat(intList.get(2)).isEqualTo(3);
+        assertThat(intList.get(1)).isEqualTo(2);
+        assertThat(intList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void addByIndex() {
+        intList = DoublyLinkedList.of(2, 4);
+
+        intList.add(0, 1);
+        intList.add(2, 3);
+        intList.add(4, 5);
+
+        assertThat(intList.stream().toList()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(intList.getFirst()).isEqualTo(1);
+        assertThat(intList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    void removeTail() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        assertThat(intList.remove(2)).isEqualTo(3);
+
+        assertThat(intList.getLast()).isEqualTo(2);
+        assertThat(intList.stream().toList()).containsExactly(1, 2);
+    }
+
+    @Test
+    void removeTheOnlyElement() {
+        intList = DoublyLinkedList.of(1);
+
+        intList.remove(0);
+
+        assertThat(intList.isEmpty()).isTrue();
+        intList.add(2);
+        assertThat(intList.getFirst()).isEqualTo(2);
+        assertThat(intList.getLast()).isEqualTo(2);
+    }
+
+    @Test
+    void behavesLikeJavaUtilLinkedList() {
+        java.util.List<Integer> expected = new java.util.LinkedList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || expected.isEmpty()) {
+                intList.add(i);
+                expected.add(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                intList.set(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.get(index)).isEqualTo(expected.get(index));
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(intList.get(i)).isEqualTo(expected.get(i));
+        }
+        assertThat(intList.stream().toList()).isEqualTo(expected);
+    }
+
+    @Test
+    void getOutOfBounds() {
+        intList = DoublyLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.remove(-1));
+    }
+
+    @Test
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    void contains() {
+        intList = DoublyLinkedList.of(1, null, 3);
+
+        assertThat(intList.contains(3)).isTrue();
+        assertThat(intList.contains(null)).isTrue();
+        assertThat(intList.contains(4)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        intList.get(1);
+
+        intList.clear();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.remove(2);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares singly linked {@link LinkedList} with {@link DoublyLinkedList} on an indexed scan
+ * ({@code for i: get(i)}), removal of the last element, and insertion into the middle of the list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkedListBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"singly", "doubly"})
+    private String implementation;
+
+    private List<Integer> list;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        list = implementation.equals("singly") ? new LinkedList<>() : new DoublyLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long indexedScan() {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int removeLast() {
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public List<Integer> insertIntoMiddle() {
+        list.add(list.size() / 2, -1);
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LinkedListBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -11,6 +11,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
@@ -520,6 +522,69 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(43)
+    void iteratorVisitsElementsInOrder() {
+        addInternalElements(4, 5, 6);
+
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        for (Integer element : intList) {
+            visited.add(element);
+        }
+
+        assertThat(visited).isEqualTo(java.util.List.of(4, 5, 6));
+    }
+
+    @Test
+    @Order(44)
+    void iteratorIsFailFast() {
+        intList = LinkedList.of(1, 2, 3);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(45)
+    void iteratorDoesNotSeeRemovedTail() {
+        intList = LinkedList.of(1, 2, 3);
+
+        intList.remove(2);
+
+        assertThat(intList.stream().toList()).isEqualTo(java.util.List.of(1, 2));
+    }
+
+    @Test
+    @Order(46)
+    void addAfterRemovingTheOnlyElement() {
+        intList = LinkedList.of(1);
+
+        intList.remove(0);
+        intList.add(2);
+
+        assertThat(intList.getFirst()).isEqualTo(2);
+        assertThat(intList.getLast()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(47)
+    void parallelStream() {
+        intList = new LinkedList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            intList.add(i);
+        }
+
+        long sum = intList.parallelStream()
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        assertThat(sum).isEqualTo(50_005_000L);
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
@@ -1,34 +1,58 @@
 package com.bobocode.cs;
 
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
  * based on an array and is simplified version of {@link java.util.ArrayList}.
+ * <p>
+ * The way the inner array grows is defined by a {@link GrowthStrategy}. By default, the array is doubled. Bulk
+ * operations {@link ArrayList#addAll(Object[])} and {@link ArrayList#addAll(Collection)} resize the array at most once.
+ * <p>
+ * Iterators and spliterators are fail-fast. Every structural modification (adding or removing elements) increments
+ * a modification counter, and if it changes while iterating, a {@link ConcurrentModificationException} is thrown.
  *
  * @author Serhii Hryhus
  */
 public class ArrayList<T> implements List<T> {
     private static final int DEFAULT_CAPACITY = 5;
-    private static final int GROW_MULTIPLIER = 2;
+    private final GrowthStrategy growthStrategy;
     private T[] array;
     private int size;
+    private int modCount;
 
     /**
-     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside and
+     * a specific growth strategy.
      *
-     * @param initCapacity - the initial capacity of the list
+     * @param initCapacity   - the initial capacity of the list
+     * @param growthStrategy - the strategy that computes a new capacity when the array is full
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
      */
-    public ArrayList(int initCapacity) {
+    public ArrayList(int initCapacity, GrowthStrategy growthStrategy) {
         if (initCapacity < 0 || initCapacity == 0) {
             throw new IllegalArgumentException();
         }
+        this.growthStrategy = Objects.requireNonNull(growthStrategy);
         array = (T[]) new Object[initCapacity];
     }
 
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayList(int initCapacity) {
+        this(initCapacity, GrowthStrategy.doubling());
+    }
+
     /**
      * This constructor creates an instance of {@link ArrayList} with a default capacity of an array inside.
      * A default size of inner array is 5;
@@ -38,15 +62,15 @@ public class ArrayList<T> implements List<T> {
     }
 
     /**
-     * Creates and returns an instance of {@link ArrayList} with provided elements
+     * Creates and returns an instance of {@link ArrayList} with provided elements. The inner array is allocated once
+     * and filled with a single copy.
      *
      * @param elements to add
      * @return new instance
      */
     public static <T> List<T> of(T... elements) {
-        List<T> list = new ArrayList<>();
-        Stream.of(elements)
-                .forEach(list::add);
+        ArrayList<T> list = new ArrayList<>(Math.max(elements.length, DEFAULT_CAPACITY));
+        list.addAll(elements);
         return list;
     }
 
@@ -57,9 +81,10 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        resizeIfNeeded();
+        ensureCapacity(size + 1);
         array[size] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -71,10 +96,60 @@ public class ArrayList<T> implements List<T> {
     @Override
     public void add(int index, T element) {
         Objects.checkIndex(index, size + 1);
-        resizeIfNeeded();
+        ensureCapacity(size + 1);
         System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = element;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the array. The inner array is resized at most once, and elements are
+     * copied with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(T[] elements) {
+        Objects.requireNonNull(elements);
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the array. The inner array is resized at most once.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(Collection<? extends T> elements) {
+        addAll((T[]) elements.toArray());
+    }
+
+    /**
+     * Makes sure that the inner array can hold at least provided number of elements without resizing. Use it before
+     * adding a large number of elements one by one, so the array is reallocated only once.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            int newCapacity = growthStrategy.grow(array.length, minCapacity);
+            T[] newArray = (T[]) new Object[Math.max(newCapacity, minCapacity)];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Shrinks the inner array to the list size, so the list does not keep unused capacity.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            T[] newArray = (T[]) new Object[size];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
     }
 
     /**
@@ -143,6 +218,7 @@ public class ArrayList<T> implements List<T> {
         }
         array[size - 1] = null;
         size--;
+        modCount++;
         return removedElement;
     }
 
@@ -187,14 +263,30 @@ public class ArrayList<T> implements List<T> {
     public void clear() {
         array = (T[]) new Object[0];
         size = 0;
+        modCount++;
     }
 
-    private void resizeIfNeeded() {
-        if (size == array.length) {
-            T[] newArray = (T[]) new Object[(size * GROW_MULTIPLIER)];
-            System.arraycopy(array, 0, newArray, 0, array.length);
-            array = newArray;
-        }
+    /**
+     * Returns a fail-fast iterator over the list elements in proper sequence.
+     *
+     * @return an iterator
+     * @throws ConcurrentModificationException on {@link Iterator#next()} if the list was structurally modified
+     *                                         after the iterator was created
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list elements. It splits the remaining range of indexes in half,
+     * so parallel streams distribute elements evenly between threads.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
     }
 
     private void checkIsEmpty() {
@@ -202,4 +294,99 @@ public class ArrayList<T> implements List<T> {
             throw new NoSuchElementException();
         }
     }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private int cursor;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification(expectedModCount);
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            return array[cursor++];
+        }
+    }
+
+    /**
+     * A spliterator over the index range [index, fence). The fence is bound lazily on the first use, so the
+     * spliterator reflects all modifications made before the traversal starts.
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index < hi) {
+                action.accept(array[index++]);
+                checkForComodification(expectedModCount);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            T[] elements = array;
+            for (int i = index; i < hi; i++) {
+                action.accept(elements[i]);
+            }
+            index = hi;
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
 }
@@ -0,0 +1,464 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link ChunkedArrayList} is an implementation of {@link List} interface that stores elements in fixed-size chunks
+ * instead of one contiguous array. It is designed for very large lists (including more than 2^31 elements) that
+ * should not cause long pauses or huge allocations while growing.
+ * <p>
+ * Chunks are referenced from an array called spine. When the list is full, a new chunk is allocated and added to the
+ * spine, so existing elements are never copied. Only the spine itself is resized, which is cheap since it holds one
+ * reference per chunk.
+ * <p>
+ * The chunk size is a power of two, so the position of an element is computed with a shift and a mask:
+ * {@code chunks[index >>> chunkShift][index & chunkMask]}. Methods that accept or return {@code long} indexes allow to
+ * access elements beyond {@link Integer#MAX_VALUE}.
+ * <p>
+ * Iterators and spliterators are fail-fast, they throw {@link ConcurrentModificationException} if the list is
+ * structurally modified while iterating.
+ *
+ * @param <T> generic type parameter
+ */
+public class ChunkedArrayList<T> implements List<T> {
+    private static final int DEFAULT_CHUNK_SHIFT = 14;
+    private static final int MAX_CHUNK_SHIFT = 30;
+    private static final int DEFAULT_SPINE_CAPACITY = 4;
+
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+    private Object[][] chunks;
+    private int chunkCount;
+    private long size;
+    private int modCount;
+
+    /**
+     * This constructor creates an instance of {@link ChunkedArrayList} with chunks of 2^chunkShift elements.
+     *
+     * @param chunkShift a binary logarithm of the chunk size
+     * @throws IllegalArgumentException if chunk shift is negative or greater than 30
+     */
+    public ChunkedArrayList(int chunkShift) {
+        if (chunkShift < 0 || chunkShift > MAX_CHUNK_SHIFT) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkShift = chunkShift;
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = chunkSize - 1;
+        this.chunks = new Object[DEFAULT_SPINE_CAPACITY][];
+    }
+
+    /**
+     * This constructor creates an instance of {@link ChunkedArrayList} with a default chunk size of 16384 elements.
+     */
+    public ChunkedArrayList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates and returns an instance of {@link ChunkedArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static <T> ChunkedArrayList<T> of(T... elements) {
+        ChunkedArrayList<T> list = new ChunkedArrayList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1), since growing the list
+     * only allocates a new chunk.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        ensureCapacityForOneMore();
+        chunks[chunkIndex(size)][offset(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        add((long) index, element);
+    }
+
+    /**
+     * Adds an element to the specific position in the list. Elements on the right are shifted chunk by chunk.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(long index, T element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacityForOneMore();
+        shiftRight(index);
+        chunks[chunkIndex(index)][offset(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of the list at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        set((long) index, element);
+    }
+
+    /**
+     * Changes the value of the list at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(long index, T element) {
+        Objects.checkIndex(index, size);
+        chunks[chunkIndex(index)][offset(index)] = element;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public T get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    public T get(long index) {
+        Objects.checkIndex(index, size);
+        return (T) chunks[chunkIndex(index)][offset(index)];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        checkIsEmpty();
+        return get(0L);
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        checkIsEmpty();
+        return get(size - 1);
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        return remove((long) index);
+    }
+
+    /**
+     * Removes an elements by its position index. Elements on the right are shifted chunk by chunk. In case provided
+     * index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public T remove(long index) {
+        T removedElement = get(index);
+        shiftLeft(index);
+        size--;
+        modCount++;
+        chunks[chunkIndex(size)][offset(size)] = null;
+        return removedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(T element) {
+        long remaining = size;
+        for (int c = 0; c < chunkCount && remaining > 0; c++) {
+            Object[] chunk = chunks[c];
+            int length = (int) Math.min(remaining, chunkSize);
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(chunk[i], element)) {
+                    return true;
+                }
+            }
+            remaining -= length;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list. If the list contains more than {@link Integer#MAX_VALUE} elements,
+     * returns {@link Integer#MAX_VALUE}. Use {@link ChunkedArrayList#longSize()} to get the exact value.
+     *
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements and releases all chunks
+     */
+    @Override
+    public void clear() {
+        chunks = new Object[DEFAULT_SPINE_CAPACITY][];
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements in proper sequence.
+     *
+     * @return an iterator
+     * @throws ConcurrentModificationException on {@link Iterator#next()} if the list was structurally modified
+     *                                         after the iterator was created
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkedIterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the list elements. It splits the remaining range of indexes in half,
+     * so parallel streams distribute elements evenly between threads.
+     *
+     * @return a spliterator
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ChunkedSpliterator(0, -1, 0);
+    }
+
+    private int chunkIndex(long index) {
+        return (int) (index >>> chunkShift);
+    }
+
+    private int offset(long index) {
+        return (int) (index & chunkMask);
+    }
+
+    private void ensureCapacityForOneMore() {
+        if (size == (long) chunkCount << chunkShift) {
+            if (chunkCount == chunks.length) {
+                Object[][] newChunks = new Object[chunks.length << 1][];
+                System.arraycopy(chunks, 0, newChunks, 0, chunkCount);
+                chunks = newChunks;
+            }
+            chunks[chunkCount++] = new Object[chunkSize];
+        }
+    }
+
+    /**
+     * Moves elements [from, size) one position to the right. There must be a free slot at position size.
+     */
+    private void shiftRight(long from) {
+        int firstChunk = chunkIndex(from);
+        int lastChunk = chunkIndex(size);
+        for (int c = lastChunk; c > firstChunk; c--) {
+            int length = c == lastChunk ? offset(size) : chunkMask;
+            System.arraycopy(chunks[c], 0, chunks[c], 1, length);
+            chunks[c][0] = chunks[c - 1][chunkMask];
+        }
+        int start = offset(from);
+        int end = firstChunk == lastChunk ? offset(size) : chunkMask;
+        System.arraycopy(chunks[firstChunk], start, chunks[firstChunk], start + 1, end - start);
+    }
+
+    /**
+     * Moves elements [from + 1, size) one position to the left, overriding the element at position from.
+     */
+    private void shiftLeft(long from) {
+        long last = size - 1;
+        int firstChunk = chunkIndex(from);
+        int lastChunk = chunkIndex(last);
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            int start = c == firstChunk ? offset(from) : 0;
+            int end = c == lastChunk ? offset(last) : chunkMask;
+            System.arraycopy(chunks[c], start + 1, chunks[c], start, end - start);
+            if (c < lastChunk) {
+                chunks[c][chunkMask] = chunks[c + 1][0];
+            }
+        }
+    }
+
+    private void checkIsEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private class ChunkedIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private long cursor;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification(expectedModCount);
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            T element = (T) chunks[chunkIndex(cursor)][offset(cursor)];
+            cursor++;
+            return element;
+        }
+    }
+
+    /**
+     * A spliterator over the index range [index, fence). The fence is bound lazily on the first use, so the
+     * spliterator reflects all modifications made before the traversal starts.
+     */
+    private class ChunkedSpliterator implements Spliterator<T> {
+        private long index;
+        private long fence;
+        private int expectedModCount;
+
+        private ChunkedSpliterator(long origin, long fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private long getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            long hi = getFence();
+            long lo = index;
+            long mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ChunkedSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            long hi = getFence();
+            if (index < hi) {
+                action.accept((T) chunks[chunkIndex(index)][offset(index)]);
+                index++;
+                checkForComodification(expectedModCount);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            long hi = getFence();
+            long i = index;
+            while (i < hi) {
+                Object[] chunk = chunks[chunkIndex(i)];
+                int end = (int) Math.min(chunkSize, offset(i) + (hi - i));
+                for (int offset = offset(i); offset < end; offset++) {
+                    action.accept((T) chunk[offset]);
+                }
+                i += end - offset(i);
+            }
+            index = hi;
+            checkForComodification(expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bobocode.cs;
+
+/**
+ * {@link GrowthStrategy} defines how {@link ArrayList} computes a new capacity of its inner array once the array is
+ * full. A strategy is a pure function, so one instance can be shared between any number of lists.
+ */
+@FunctionalInterface
+public interface GrowthStrategy {
+
+    /**
+     * Computes a new capacity of an array.
+     *
+     * @param currentCapacity a length of the current array
+     * @param minCapacity     a minimal capacity required to store all elements
+     * @return a new capacity; if it is less than {@code minCapacity}, the list uses {@code minCapacity} instead
+     */
+    int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns a strategy that doubles the array. It is the default strategy of {@link ArrayList}.
+     *
+     * @return doubling strategy
+     */
+    static GrowthStrategy doubling() {
+        return (currentCapacity, minCapacity) -> currentCapacity << 1;
+    }
+
+    /**
+     * Returns a strategy that grows the array by half of its length, like {@link java.util.ArrayList} does.
+     *
+     * @return 1.5x strategy
+     */
+    static GrowthStrategy oneAndHalf() {
+        return (currentCapacity, minCapacity) -> currentCapacity + (currentCapacity >> 1);
+    }
+
+    /**
+     * Returns a strategy that grows the array by a fixed number of elements.
+     *
+     * @param chunkSize a number of elements that is added to the capacity on every grow
+     * @return fixed-chunk strategy
+     * @throws IllegalArgumentException if chunk size is negative or 0
+     */
+    static GrowthStrategy fixedChunk(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return (currentCapacity, minCapacity) -> currentCapacity + chunkSize;
+    }
+}
@@ -0,0 +1,225 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * {@link LongArrayList} is a primitive-specialized sibling of {@link ArrayList} that stores {@code long} values
+ * in a {@code long[]}. It provides the same list operations as {@link List}, but never boxes its elements, so
+ * adding and reading values does not allocate {@link Long} objects.
+ */
+public class LongArrayList {
+    private static final int DEFAULT_CAPACITY = 5;
+    private static final int GROW_MULTIPLIER = 2;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private long[] array;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link LongArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0.
+     */
+    public LongArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        array = new long[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link LongArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates and returns an instance of {@link LongArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static LongArrayList of(long... elements) {
+        LongArrayList list = new LongArrayList(Math.max(elements.length, DEFAULT_CAPACITY));
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the array.
+     *
+     * @param element element to add
+     */
+    public void add(long element) {
+        ensureCapacity(size + 1);
+        array[size] = element;
+        size++;
+    }
+
+    /**
+     * Adds an element to the specific position in the array. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(int index, long element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the array. The inner array is resized at most once, and elements are
+     * copied with a single {@link System#arraycopy(Object, int, Object, int, int)} call.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(long[] elements) {
+        Objects.requireNonNull(elements);
+        ensureCapacity((long) size + elements.length);
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return array[index];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public long getFirst() {
+        checkIsEmpty();
+        return array[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public long getLast() {
+        checkIsEmpty();
+        return array[size - 1];
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(int index, long element) {
+        Objects.checkIndex(index, size);
+        array[index] = element;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public long remove(int index) {
+        Objects.checkIndex(index, size);
+        long removedElement = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    public boolean contains(long element) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. The inner array is kept, so the list can be refilled without reallocation.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a copy of the list elements as a new array of length {@link LongArrayList#size()}.
+     *
+     * @return array of elements
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over the list elements. The stream reads the inner array directly, so
+     * the list should not be modified while the stream is being consumed.
+     *
+     * @return stream of elements
+     */
+    public LongStream stream() {
+        return Arrays.stream(array, 0, size);
+    }
+
+    private void ensureCapacity(long minCapacity) {
+        if (minCapacity > array.length) {
+            if (minCapacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("List is too large");
+            }
+            long newCapacity = Math.min(Math.max((long) array.length * GROW_MULTIPLIER, minCapacity), MAX_CAPACITY);
+            array = Arrays.copyOf(array, (int) newCapacity);
+        }
+    }
+
+    private void checkIsEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -7,7 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -361,6 +364,156 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void addAllArrayResizesOnce() {
+        ArrayList<Integer> list = new ArrayList<>(2);
+        arrayList = list;
+
+        list.addAll(new Integer[]{1, 2, 3, 4, 5, 6, 7});
+
+        assertThat(getTestArray().length).isEqualTo(7);
+        assertThat(getTestSize()).isEqualTo(7);
+        assertThat(list.get(6)).isEqualTo(7);
+    }
+
+    @Test
+    @Order(38)
+    void addAllCollection() {
+        ArrayList<Integer> list = new ArrayList<>();
+        arrayList = list;
+        list.add(1);
+
+        list.addAll(java.util.List.of(2, 3));
+
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(list.get(0)).isEqualTo(1);
+        assertThat(list.get(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(39)
+    void ensureCapacity() {
+        ArrayList<Integer> list = new ArrayList<>();
+        arrayList = list;
+        list.add(1);
+
+        list.ensureCapacity(100);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(100);
+        assertThat(list.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(40)
+    void trimToSize() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        arrayList = list;
+        list.add(1);
+        list.add(2);
+
+        list.trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        list.add(3);
+        assertThat(getTestSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(41)
+    void addAfterClear() {
+        arrayList.add(1);
+        arrayList.clear();
+
+        arrayList.add(2);
+
+        assertThat(arrayList.get(0)).isEqualTo(2);
+    }
+
+    @Test
+    @Order(42)
+    void oneAndHalfGrowthStrategy() {
+        arrayList = new ArrayList<>(4, GrowthStrategy.oneAndHalf());
+
+        for (int i = 0; i < 5; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(6);
+    }
+
+    @Test
+    @Order(43)
+    void fixedChunkGrowthStrategy() {
+        arrayList = new ArrayList<>(4, GrowthStrategy.fixedChunk(10));
+
+        for (int i = 0; i < 5; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(14);
+    }
+
+    @Test
+    @Order(44)
+    void fixedChunkGrowthStrategyWithWrongChunkSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GrowthStrategy.fixedChunk(0));
+    }
+
+    @Test
+    @Order(45)
+    void iteratorVisitsElementsInOrder() {
+        arrayList = ArrayList.of(4, 5, 6);
+
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        for (Integer element : arrayList) {
+            visited.add(element);
+        }
+
+        assertThat(visited).isEqualTo(java.util.List.of(4, 5, 6));
+    }
+
+    @Test
+    @Order(46)
+    void iteratorIsFailFast() {
+        arrayList = ArrayList.of(1, 2, 3);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(47)
+    void spliteratorSplitsInHalf() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6, 7, 8);
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix.estimateSize()).isEqualTo(4);
+        assertThat(spliterator.estimateSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(48)
+    void parallelStream() {
+        arrayList = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            arrayList.add(i);
+        }
+
+        long sum = arrayList.parallelStream()
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        assertThat(sum).isEqualTo(50_005_000L);
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
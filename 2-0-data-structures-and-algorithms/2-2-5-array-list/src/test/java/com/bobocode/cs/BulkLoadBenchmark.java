@@ -0,0 +1,89 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that loads 10M elements into {@link ArrayList}. It compares adding elements one by one (the way
+ * {@link ArrayList#of(Object[])} used to work) with {@link ArrayList#addAll(Object[])}, with
+ * {@link ArrayList#ensureCapacity(int)} followed by single adds, and with different {@link GrowthStrategy}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class BulkLoadBenchmark {
+
+    @Param({"10000000"})
+    private int size;
+
+    private Integer[] elements;
+
+    @Setup
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addOneByOne() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addOneByOneOneAndHalf() {
+        ArrayList<Integer> list = new ArrayList<>(5, GrowthStrategy.oneAndHalf());
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> ensureCapacityThenAdd() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.ensureCapacity(elements.length);
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addAll() {
+        ArrayList<Integer> list = new ArrayList<>();
+        list.addAll(elements);
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkLoadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,185 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ChunkedArrayListTest {
+
+    private ChunkedArrayList<Integer> chunkedList = new ChunkedArrayList<>(2);
+
+    @Test
+    void addAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            chunkedList.add(i);
+        }
+
+        assertThat(chunkedList.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(chunkedList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void addByIndexShiftsAcrossChunks() {
+        chunkedList = ChunkedArrayList.of(0, 1, 2, 3, 4, 5, 6, 7);
+
+        chunkedList.add(1, 100);
+
+        assertThat(chunkedList.size()).isEqualTo(9);
+        assertThat(chunkedList.get(0)).isEqualTo(0);
+        assertThat(chunkedList.get(1)).isEqualTo(100);
+        assertThat(chunkedList.get(4)).isEqualTo(3);
+        assertThat(chunkedList.get(8)).isEqualTo(7);
+    }
+
+    @Test
+    void removeShiftsAcrossChunks() {
+        chunkedList = new ChunkedArrayList<>(2);
+        for (int i = 0; i < 9; i++) {
+            chunkedList.add(i);
+        }
+
+        assertThat(chunkedList.remove(2)).isEqualTo(2);
+
+        assertThat(chunkedList.size()).isEqualTo(8);
+        assertThat(chunkedList.get(3)).isEqualTo(4);
+        assertThat(chunkedList.getLast()).isEqualTo(8);
+    }
+
+    @Test
+    void behavesLikeJavaUtilArrayList() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                chunkedList.add(i);
+                expected.add(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                chunkedList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertThat(chunkedList.remove(index)).isEqualTo(expected.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                chunkedList.set(index, i);
+                expected.set(index, i);
+            }
+        }
+
+        assertThat(chunkedList.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(chunkedList.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    void longIndexAccess() {
+        chunkedList = ChunkedArrayList.of(1, 2, 3);
+
+        chunkedList.set(1L, 20);
+
+        assertThat(chunkedList.get(1L)).isEqualTo(20);
+        assertThat(chunkedList.longSize()).isEqualTo(3L);
+    }
+
+    @Test
+    void getOutOfBounds() {
+        chunkedList = ChunkedArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> chunkedList.get(2));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> chunkedList.add(3, 3));
+    }
+
+    @Test
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> chunkedList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> chunkedList.getLast());
+    }
+
+    @Test
+    void contains() {
+        chunkedList = ChunkedArrayList.of(1, 2, 3, 4, 5, 6);
+        chunkedList.remove(5);
+
+        assertThat(chunkedList.contains(5)).isTrue();
+        assertThat(chunkedList.contains(6)).isFalse();
+        assertThat(chunkedList.contains(null)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        chunkedList = ChunkedArrayList.of(1, 2, 3, 4, 5);
+
+        chunkedList.clear();
+
+        assertThat(chunkedList.isEmpty()).isTrue();
+        chunkedList.add(7);
+        assertThat(chunkedList.getFirst()).isEqualTo(7);
+    }
+
+    @Test
+    void iteratorVisitsElementsInOrder() {
+        chunkedList = ChunkedArrayList.of(1, 2, 3, 4, 5);
+
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+        for (Integer element : chunkedList) {
+            visited.add(element);
+        }
+
+        assertThat(visited).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        chunkedList = ChunkedArrayList.of(1, 2, 3);
+        Iterator<Integer> iterator = chunkedList.iterator();
+        iterator.next();
+
+        chunkedList.add(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    void streamCrossesChunks() {
+        for (int i = 0; i < 10; i++) {
+            chunkedList.add(i);
+        }
+
+        assertThat(chunkedList.stream().toList()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void parallelStream() {
+        for (int i = 1; i <= 10_000; i++) {
+            chunkedList.add(i);
+        }
+
+        long sum = chunkedList.parallelStream()
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        assertThat(sum).isEqualTo(50_005_000L);
+    }
+
+    @Test
+    void createListWithWrongChunkShift() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ChunkedArrayList<>(31));
+    }
+}
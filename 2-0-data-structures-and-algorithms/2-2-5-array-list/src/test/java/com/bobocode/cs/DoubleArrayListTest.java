@@ -0,0 +1,63 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DoubleArrayListTest {
+
+    private DoubleArrayList doubleList = new DoubleArrayList();
+
+    @Test
+    void addAndGet() {
+        doubleList.add(1.5);
+        doubleList.add(2.5);
+
+        assertThat(doubleList.get(0)).isEqualTo(1.5);
+        assertThat(doubleList.get(1)).isEqualTo(2.5);
+        assertThat(doubleList.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addByIndexAndRemove() {
+        doubleList = DoubleArrayList.of(1.0, 3.0);
+
+        doubleList.add(1, 2.0);
+
+        assertThat(doubleList.toArray()).containsExactly(1.0, 2.0, 3.0);
+        assertThat(doubleList.remove(2)).isEqualTo(3.0);
+        assertThat(doubleList.toArray()).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void addAll() {
+        doubleList.addAll(new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0});
+
+        assertThat(doubleList.size()).isEqualTo(6);
+        assertThat(doubleList.getLast()).isEqualTo(6.0);
+    }
+
+    @Test
+    void getLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> doubleList.getLast());
+    }
+
+    @Test
+    void containsFindsNaN() {
+        doubleList = DoubleArrayList.of(1.0, Double.NaN);
+
+        assertThat(doubleList.contains(Double.NaN)).isTrue();
+        assertThat(doubleList.contains(2.0)).isFalse();
+    }
+
+    @Test
+    void stream() {
+        doubleList = DoubleArrayList.of(0.5, 1.5, 2.0);
+
+        assertThat(doubleList.stream().sum()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntArrayListTest {
+
+    private IntArrayList intList = new IntArrayList();
+
+    @Test
+    void addAndGet() {
+        intList.add(10);
+        intList.add(15);
+        intList.add(20);
+
+        assertThat(intList.get(0)).isEqualTo(10);
+        assertThat(intList.get(1)).isEqualTo(15);
+        assertThat(intList.get(2)).isEqualTo(20);
+        assertThat(intList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void addGrowsBeyondDefaultCapacity() {
+        for (int i = 0; i < 100; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(100);
+        assertThat(intList.get(99)).isEqualTo(99);
+    }
+
+    @Test
+    void addByIndex() {
+        intList = IntArrayList.of(1, 2, 4, 5);
+
+        intList.add(2, 3);
+        intList.add(0, 0);
+        intList.add(6, 6);
+
+        assertThat(intList.toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(3, 3));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(-1, 3));
+    }
+
+    @Test
+    void addAll() {
+        intList.add(1);
+
+        intList.addAll(new int[]{2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        assertThat(intList.size()).isEqualTo(12);
+        assertThat(intList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+    }
+
+    @Test
+    void getFirstAndLast() {
+        intList = IntArrayList.of(31, 24, 18);
+
+        assertThat(intList.getFirst()).isEqualTo(31);
+        assertThat(intList.getLast()).isEqualTo(18);
+    }
+
+    @Test
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    void getOutOfBounds() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+    }
+
+    @Test
+    void set() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        intList.set(1, 20);
+
+        assertThat(intList.toArray()).containsExactly(1, 20, 3);
+    }
+
+    @Test
+    void remove() {
+        intList = IntArrayList.of(1, 2, 3, 4);
+
+        assertThat(intList.remove(1)).isEqualTo(2);
+        assertThat(intList.remove(2)).isEqualTo(4);
+        assertThat(intList.toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    void containsIgnoresRemovedElements() {
+        intList = IntArrayList.of(1, 2, 3);
+        intList.remove(2);
+
+        assertThat(intList.contains(2)).isTrue();
+        assertThat(intList.contains(3)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        intList.clear();
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    void stream() {
+        intList = IntArrayList.of(1, 2, 3, 4);
+        intList.remove(3);
+
+        assertThat(intList.stream().sum()).isEqualTo(6);
+    }
+
+    @Test
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntArrayList(0));
+    }
+}
@@ -0,0 +1,66 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LongArrayListTest {
+
+    private LongArrayList longList = new LongArrayList();
+
+    @Test
+    void addAndGet() {
+        longList.add(10L);
+        longList.add(Long.MAX_VALUE);
+
+        assertThat(longList.get(0)).isEqualTo(10L);
+        assertThat(longList.get(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(longList.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addByIndexAndRemove() {
+        longList = LongArrayList.of(1L, 3L);
+
+        longList.add(1, 2L);
+
+        assertThat(longList.toArray()).containsExactly(1L, 2L, 3L);
+        assertThat(longList.remove(0)).isEqualTo(1L);
+        assertThat(longList.toArray()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void addAll() {
+        longList.addAll(new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L});
+
+        assertThat(longList.size()).isEqualTo(7);
+        assertThat(longList.getFirst()).isEqualTo(1L);
+        assertThat(longList.getLast()).isEqualTo(7L);
+    }
+
+    @Test
+    void getFirstOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> longList.getFirst());
+    }
+
+    @Test
+    void containsAndSet() {
+        longList = LongArrayList.of(1L, 2L);
+
+        longList.set(1, 5L);
+
+        assertThat(longList.contains(5L)).isTrue();
+        assertThat(longList.contains(2L)).isFalse();
+    }
+
+    @Test
+    void stream() {
+        longList = LongArrayList.of(1L, 2L, 3L);
+
+        assertThat(longList.stream().sum()).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link IntArrayList} with a generic {@link ArrayList} of {@link Integer}. It measures
+ * throughput of filling a list and summing its elements. Run {@link #main(String[])} to get the results together with
+ * the allocation rate reported by {@link GCProfiler} ({@code gc.alloc.rate.norm} is bytes allocated per operation).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveArrayListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private List<Integer> boxedList;
+    private IntArrayList intList;
+
+    @Setup
+    public void setUp() {
+        boxedList = new ArrayList<>();
+        intList = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            boxedList.add(i);
+            intList.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> fillBoxed() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList fillPrimitive() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (int i = 0; i < boxedList.size(); i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        for (int i = 0; i < intList.size(); i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrimitiveArrayListBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,338 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree}. Every node stores the
+ * height of its subtree, and the heights of the left and right subtrees of any node differ by at most one. It keeps
+ * the depth of the tree within {@code 1.44 * log2(n + 2)}, which is stricter than in
+ * {@link RedBlackBinarySearchTree}, so lookups are slightly faster at the cost of more rotations on insert.
+ * <p>
+ * All operations are iterative. Nodes keep a reference to the parent, so insertion updates heights walking up from
+ * the new node, and traversal moves from a node to its successor without a stack. Since the root stores the height
+ * of the whole tree, {@link #depth()} takes constant time.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private Node<T> root;
+    private int size;
+    private int modCount;
+
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        AvlBinarySearchTree<T> tree = new AvlBinarySearchTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T> parent = null;
+        Node<T> current = root;
+        int comparison = 0;
+        while (current != null) {
+            parent = current;
+            comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return false;
+            }
+        }
+        Node<T> newNode = new Node<>(element, parent);
+        if (parent == null) {
+            root = newNode;
+        } else if (comparison < 0) {
+            parent.left = newNode;
+        } else {
+            parent.right = newNode;
+        }
+        rebalanceUpFrom(parent);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int depth() {
+        return root == null ? 0 : root.height - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Node<T> node = leftmost(root); node != null; node = successor(node)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    @Override
+    public T first() {
+        checkIsEmpty();
+        return leftmost(root).element;
+    }
+
+    @Override
+    public T last() {
+        checkIsEmpty();
+        return rightmost(root).element;
+    }
+
+    @Override
+    public T floor(T element) {
+        Node<T> node = floorNode(element);
+        return node == null ? null : node.element;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Node<T> node = ceilingNode(element);
+        return node == null ? null : node.element;
+    }
+
+    /**
+     * Finds the least node within the bounds in O(log n) time and then moves from a node to its successor until it
+     * goes out of the bounds.
+     */
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        for (Node<T> node = ceilingNode(from); node != null && node.element.compareTo(to) <= 0;
+             node = successor(node)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    /**
+     * Returns a lazy iterator that moves from a node to its successor. It is fail-fast and throws
+     * {@link ConcurrentModificationException} if an element was inserted after the iterator was created.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator();
+    }
+
+    /**
+     * Walks up from a given node to the root, updates heights, and rotates every node whose subtrees differ in height
+     * by two. It stops as soon as a height does not change, since the nodes above are not affected.
+     */
+    private void rebalanceUpFrom(Node<T> node) {
+        while (node != null) {
+            int oldHeight = node.height;
+            int balance = balance(node);
+            if (balance > 1) {
+                if (balance(node.left) < 0) {
+                    rotateLeft(node.left);
+                }
+                node = rotateRight(node);
+            } else if (balance < -1) {
+                if (balance(node.right) > 0) {
+                    rotateRight(node.right);
+                }
+                node = rotateLeft(node);
+            } else {
+                updateHeight(node);
+            }
+            if (node.height == oldHeight) {
+                return;
+            }
+            node = node.parent;
+        }
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int balance(Node<?> node) {
+        return height(node.left) - height(node.right);
+    }
+
+    private static void updateHeight(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        if (right.left != null) {
+            right.left.parent = node;
+        }
+        replaceChild(node, right);
+        right.left = node;
+        node.parent = right;
+        updateHeight(node);
+        updateHeight(right);
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        if (left.right != null) {
+            left.right.parent = node;
+        }
+        replaceChild(node, left);
+        left.right = node;
+        node.parent = left;
+        updateHeight(node);
+        updateHeight(left);
+        return left;
+    }
+
+    private void replaceChild(Node<T> oldChild, Node<T> newChild) {
+        Node<T> parent = oldChild.parent;
+        newChild.parent = parent;
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private void checkIsEmpty() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private static <T extends Comparable<T>> void checkRange(T from, T to) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+    }
+
+    private Node<T> floorNode(T element) {
+        Objects.requireNonNull(element);
+        Node<T> floor = null;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                floor = current;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+        return floor;
+    }
+
+    private Node<T> ceilingNode(T element) {
+        Objects.requireNonNull(element);
+        Node<T> ceiling = null;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                ceiling = current;
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+        return ceiling;
+    }
+
+    private static <T> Node<T> leftmost(Node<T> node) {
+        if (node != null) {
+            while (node.left != null) {
+                node = node.left;
+            }
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rightmost(Node<T> node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node;
+    }
+
+    private static <T> Node<T> successor(Node<T> node) {
+        if (node.right != null) {
+            return leftmost(node.right);
+        }
+        Node<T> parent = node.parent;
+        while (parent != null && node == parent.right) {
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    private class TreeIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private Node<T> next = leftmost(root);
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T element = next.element;
+            next = successor(next);
+            return element;
+        }
+    }
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        Node<T> parent;
+        int height = 1;
+
+        private Node(T element, Node<T> parent) {
+            this.element = element;
+            this.parent = parent;
+        }
+    }
+}
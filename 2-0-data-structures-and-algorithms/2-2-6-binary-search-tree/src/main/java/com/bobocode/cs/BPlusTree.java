@@ -0,0 +1,365 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link BPlusTree} is an implementation of a {@link BinarySearchTree} contract for large in-memory indexes. Unlike
+ * binary trees, its node holds up to {@code fanOut - 1} elements in a sorted array, so a lookup reads a few
+ * neighbouring array cells per node instead of following a reference per comparison. With the default fan-out 64
+ * a tree of 10 million elements is only four levels deep.
+ * <p>
+ * All elements are stored in leaves, and inner nodes keep only separators: the least element in the subtree of every
+ * child except the first one. Leaves are linked in ascending order, so in-order traversal, range queries and iteration
+ * scan leaf arrays one after another without going back to inner nodes.
+ * <p>
+ * The tree grows from the root: when a node overflows, it is split in half, and the separator is added to the parent.
+ * Since elements are never removed, the least element of every leaf is equal to its separator.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class BPlusTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int DEFAULT_FAN_OUT = 64;
+    private static final int MIN_FAN_OUT = 3;
+
+    private final int fanOut;
+    private Node root;
+    private Leaf firstLeaf;
+    private int height;
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates a tree with a given fan-out.
+     *
+     * @param fanOut max number of children of an inner node, a leaf holds up to {@code fanOut - 1} elements
+     * @throws IllegalArgumentException if fan-out is less than 3
+     */
+    public BPlusTree(int fanOut) {
+        if (fanOut < MIN_FAN_OUT) {
+            throw new IllegalArgumentException("Fan-out should be at least " + MIN_FAN_OUT);
+        }
+        this.fanOut = fanOut;
+        this.firstLeaf = new Leaf(fanOut);
+        this.root = firstLeaf;
+    }
+
+    /**
+     * Creates a tree with default fan-out 64.
+     */
+    public BPlusTree() {
+        this(DEFAULT_FAN_OUT);
+    }
+
+    public static <T extends Comparable<T>> BPlusTree<T> of(T... elements) {
+        BPlusTree<T> tree = new BPlusTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    /**
+     * Inserts an element into a leaf. The path from the root is kept in arrays, so overflowed nodes are split walking
+     * back up without recursion.
+     *
+     * @return true if element did not exist in the tree and was inserted successfully
+     */
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        Inner[] path = new Inner[height];
+        int[] childIndexes = new int[height];
+        Node node = root;
+        for (int level = 0; level < height; level++) {
+            Inner inner = (Inner) node;
+            int childIndex = childIndex(inner, element);
+            path[level] = inner;
+            childIndexes[level] = childIndex;
+            node = inner.children[childIndex];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = search(leaf, element);
+        if (index >= 0) {
+            return false;
+        }
+        leaf.insert(-index - 1, element);
+        size++;
+        modCount++;
+
+        Node overflowed = leaf;
+        for (int level = height - 1; level >= 0 && overflowed.count == fanOut; level--) {
+            Object separator = overflowed.elements[overflowed.count / 2];
+            path[level].insertChild(childIndexes[level], separator, split(overflowed));
+            overflowed = path[level];
+        }
+        if (overflowed.count == fanOut) {
+            Object separator = overflowed.elements[overflowed.count / 2];
+            Inner newRoot = new Inner(fanOut);
+            newRoot.children[0] = overflowed;
+            newRoot.insertChild(0, separator, split(overflowed));
+            root = newRoot;
+            height++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        return search(findLeaf(element), element) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of levels below the root. All leaves are at the same level, so it takes constant time.
+     *
+     * @return max. number of transition between root node and any other node
+     */
+    @Override
+    public int depth() {
+        return height;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Leaf leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                consumer.accept(leaf.element(i));
+            }
+        }
+    }
+
+    @Override
+    public T first() {
+        checkIsEmpty();
+        return firstLeaf.element(0);
+    }
+
+    @Override
+    public T last() {
+        checkIsEmpty();
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[inner.count];
+        }
+        return ((Leaf) node).element(node.count - 1);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        Leaf leaf = findLeaf(element);
+        int index = search(leaf, element);
+        int floorIndex = index >= 0 ? index : -index - 2;
+        return floorIndex >= 0 ? leaf.element(floorIndex) : null;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        Leaf leaf = findLeaf(element);
+        int index = search(leaf, element);
+        int ceilingIndex = index >= 0 ? index : -index - 1;
+        if (ceilingIndex < leaf.count) {
+            return leaf.element(ceilingIndex);
+        }
+        return leaf.next != null ? leaf.next.element(0) : null;
+    }
+
+    /**
+     * Finds the leaf of {@code from} and scans linked leaves until it meets an element greater than {@code to}.
+     */
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+        Leaf leaf = findLeaf(from);
+        int index = search(leaf, from);
+        int i = index >= 0 ? index : -index - 1;
+        for (; leaf != null; leaf = leaf.next, i = 0) {
+            for (; i < leaf.count; i++) {
+                T element = leaf.element(i);
+                if (element.compareTo(to) > 0) {
+                    return;
+                }
+                consumer.accept(element);
+            }
+        }
+    }
+
+    /**
+     * Returns a lazy iterator that scans linked leaves. It is fail-fast and throws
+     * {@link ConcurrentModificationException} if an element was inserted after the iterator was created.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator();
+    }
+
+    private Leaf findLeaf(T element) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[childIndex(inner, element)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Chooses a child of an inner node. A separator is the least element of its right child, so an element that is
+     * equal to a separator goes to the right.
+     */
+    private int childIndex(Inner inner, T element) {
+        int index = search(inner, element);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Performs a binary search over node elements.
+     *
+     * @return index of the element, if it is found; otherwise, {@code (-(insertion point) - 1)}
+     */
+    private int search(Node node, T element) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = ((T) node.elements[middle]).compareTo(element);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves the upper half of an overflowed node into a new right sibling. The middle element becomes a separator in
+     * the parent. A leaf keeps it as the least element of the right sibling, while an inner node removes it from both
+     * halves.
+     */
+    private Node split(Node node) {
+        int middle = node.count / 2;
+        if (node instanceof Leaf leaf) {
+            Leaf right = new Leaf(fanOut);
+            right.count = leaf.count - middle;
+            System.arraycopy(leaf.elements, middle, right.elements, 0, right.count);
+            clear(leaf.elements, middle, leaf.count);
+            leaf.count = middle;
+            right.next = leaf.next;
+            leaf.next = right;
+            return right;
+        }
+        Inner inner = (Inner) node;
+        Inner right = new Inner(fanOut);
+        right.count = inner.count - middle - 1;
+        System.arraycopy(inner.elements, middle + 1, right.elements, 0, right.count);
+        System.arraycopy(inner.children, middle + 1, right.children, 0, right.count + 1);
+        clear(inner.elements, middle, inner.count);
+        clear(inner.children, middle + 1, inner.count + 1);
+        inner.count = middle;
+        return right;
+    }
+
+    private static void clear(Object[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            array[i] = null;
+        }
+    }
+
+    private void checkIsEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private abstract static class Node {
+        final Object[] elements;
+        int count;
+
+        Node(int fanOut) {
+            this.elements = new Object[fanOut];
+        }
+    }
+
+    /**
+     * A leaf has one spare slot in the elements array, so an element can be inserted before the leaf is split.
+     */
+    private static class Leaf extends Node {
+        Leaf next;
+
+        Leaf(int fanOut) {
+            super(fanOut);
+        }
+
+        <T> T element(int index) {
+            return (T) elements[index];
+        }
+
+        void insert(int index, Object element) {
+            System.arraycopy(elements, index, elements, index + 1, count - index);
+            elements[index] = element;
+            count++;
+        }
+    }
+
+    /**
+     * An inner node has one spare slot in both arrays, so a child can be added before the node is split. Element
+     * {@code i} separates children {@code i} and {@code i + 1}.
+     */
+    private static class Inner extends Node {
+        final Node[] children;
+
+        Inner(int fanOut) {
+            super(fanOut);
+            this.children = new Node[fanOut + 1];
+        }
+
+        void insertChild(int leftChildIndex, Object separator, Node rightChild) {
+            System.arraycopy(elements, leftChildIndex, elements, leftChildIndex + 1, count - leftChildIndex);
+            System.arraycopy(children, leftChildIndex + 1, children, leftChildIndex + 2, count - leftChildIndex);
+            elements[leftChildIndex] = separator;
+            children[leftChildIndex + 1] = rightChild;
+            count++;
+        }
+    }
+
+    private class LeafIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private Leaf leaf = firstLeaf;
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < leaf.count || leaf.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (index == leaf.count) {
+                if (leaf.next == null) {
+                    throw new NoSuchElementException();
+                }
+                leaf = leaf.next;
+                index = 0;
+            }
+            return leaf.element(index++);
+        }
+    }
+}
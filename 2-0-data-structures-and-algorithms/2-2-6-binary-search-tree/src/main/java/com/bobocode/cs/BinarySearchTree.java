@@ -1,8 +1,13 @@
 package com.bobocode.cs;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface BinarySearchTree<T extends Comparable<T>> {
+public interface BinarySearchTree<T extends Comparable<T>> extends Iterable<T> {
     /**
      * insert an element
      * @return true if element did not exist in the tree and was inserted successfully
@@ -29,4 +34,57 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the least element in the tree
+     * @throws java.util.NoSuchElementException if tree is empty
+     */
+    T first();
+
+    /**
+     * @return the greatest element in the tree
+     * @throws java.util.NoSuchElementException if tree is empty
+     */
+    T last();
+
+    /**
+     * @return the greatest element less than or equal to the given element, or null if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element greater than or equal to the given element, or null if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * traverse elements from {@code from} to {@code to} (both inclusive) in element's natural order. Subtrees that are
+     * out of the bounds are not visited, so it takes O(log n + k) time for a balanced tree, where k is a number of
+     * visited elements
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    void rangeTraversal(T from, T to, Consumer<T> consumer);
+
+    /**
+     * @return a lazy iterator over the elements in natural order
+     */
+    @Override
+    Iterator<T> iterator();
+
+    /**
+     * @return a sized, sorted spliterator over the elements that is based on {@link BinarySearchTree#iterator()}
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sequential stream of the elements in natural order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -1,7 +1,15 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 
 /**
@@ -17,33 +25,362 @@ import java.util.function.Consumer;
  * @author Maksym Stasiuk
  */
 public class RecursiveBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int SEQUENTIAL_BUILD_THRESHOLD = 1 << 13;
+    private static final int EXTRA_FORK_LEVELS = 3;
+
+    private Node<T> root;
+    private int size;
+    private int modCount;
 
     public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> of(T... elements) {
-        throw new ExerciseNotCompletedException();
+        RecursiveBinarySearchTree<T> tree = new RecursiveBinarySearchTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    /**
+     * Creates a perfectly balanced tree of sorted elements in O(n) time. The middle element becomes the root, and both
+     * halves are built the same way. Halves that are larger than {@code SEQUENTIAL_BUILD_THRESHOLD} are built as
+     * fork-join tasks, in the pool of the calling thread or in {@link ForkJoinPool#commonPool()}.
+     *
+     * @param sortedElements elements in strictly ascending order
+     * @param <T>            a type of elements
+     * @return a new tree of the given elements
+     * @throws IllegalArgumentException if elements are not sorted or contain duplicates
+     * @throws NullPointerException     if any element is null
+     */
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> fromSorted(T[] sortedElements) {
+        for (int i = 0; i < sortedElements.length; i++) {
+            Objects.requireNonNull(sortedElements[i]);
+            if (i > 0 && sortedElements[i - 1].compareTo(sortedElements[i]) >= 0) {
+                throw new IllegalArgumentException("Elements are not in strictly ascending order at index " + i);
+            }
+        }
+        RecursiveBinarySearchTree<T> tree = new RecursiveBinarySearchTree<>();
+        tree.root = buildBalanced(sortedElements, 0, sortedElements.length);
+        tree.size = sortedElements.length;
+        return tree;
     }
 
     @Override
     public boolean insert(T element) {
-        throw new ExerciseNotCompletedException();
+        Objects.requireNonNull(element);
+        boolean inserted;
+        if (root == null) {
+            root = new Node<>(element);
+            inserted = true;
+        } else {
+            inserted = insertIntoSubtree(root, element);
+        }
+        if (inserted) {
+            size++;
+            modCount++;
+        }
+        return inserted;
     }
 
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException();
+        Objects.requireNonNull(element);
+        return findNode(root, element) != null;
     }
 
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException();
+        return size;
     }
 
     @Override
     public int depth() {
-        throw new ExerciseNotCompletedException();
+        return root == null ? 0 : depth(root) - 1;
     }
 
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
-        throw new ExerciseNotCompletedException();
+        inOrderTraversal(root, consumer);
+    }
+
+    /**
+     * Traverses the tree using fork-join tasks. Subtrees at the top levels of the tree are visited by different
+     * threads, so elements are passed to the consumer concurrently and not in natural order. The consumer must be
+     * thread-safe.
+     *
+     * @param consumer a thread-safe consumer of elements
+     */
+    public void parallelInOrderTraversal(Consumer<T> consumer) {
+        parallelTraversal(root, 0, forkDepth(), consumer);
+    }
+
+    /**
+     * Performs a reduction of the elements in natural order using fork-join tasks, like
+     * {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)} does. Subtrees at the top levels of
+     * the tree are reduced by different threads, and their results are combined in order, so an associative combiner
+     * gives the same result as a sequential reduction.
+     *
+     * @param identity    the identity value for the combiner
+     * @param accumulator a function that adds an element to a result
+     * @param combiner    an associative function that combines two results
+     * @param <R>         a type of the result
+     * @return the result of the reduction
+     */
+    public <R> R reduce(R identity, BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+        return parallelReduce(root, 0, forkDepth(), identity, accumulator, combiner);
+    }
+
+    @Override
+    public T first() {
+        checkIsEmpty();
+        return first(root);
+    }
+
+    @Override
+    public T last() {
+        checkIsEmpty();
+        return last(root);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        return floor(root, element);
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        return ceiling(root, element);
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+        rangeTraversal(root, from, to, consumer);
+    }
+
+    /**
+     * Returns a lazy iterator that keeps the path to the next node in a stack, so it does not recurse. It is fail-fast
+     * and throws {@link ConcurrentModificationException} if an element was inserted after the iterator was created.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftPath(node.right);
+                return node.element;
+            }
+
+            private void pushLeftPath(Node<T> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private boolean insertIntoSubtree(Node<T> node, T element) {
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            if (node.left == null) {
+                node.left = new Node<>(element);
+                return true;
+            }
+            return insertIntoSubtree(node.left, element);
+        } else if (comparison > 0) {
+            if (node.right == null) {
+                node.right = new Node<>(element);
+                return true;
+            }
+            return insertIntoSubtree(node.right, element);
+        }
+        return false;
+    }
+
+    private Node<T> findNode(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            return findNode(node.left, element);
+        } else if (comparison > 0) {
+            return findNode(node.right, element);
+        }
+        return node;
+    }
+
+    private int depth(Node<T> node) {
+        return node == null ? 0 : 1 + Math.max(depth(node.left), depth(node.right));
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    private T first(Node<T> node) {
+        return node.left == null ? node.element : first(node.left);
+    }
+
+    private T last(Node<T> node) {
+        return node.right == null ? node.element : last(node.right);
+    }
+
+    private T floor(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            return floor(node.left, element);
+        } else if (comparison > 0) {
+            T floorInRightSubtree = floor(node.right, element);
+            return floorInRightSubtree != null ? floorInRightSubtree : node.element;
+        }
+        return node.element;
+    }
+
+    private T ceiling(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison > 0) {
+            return ceiling(node.right, element);
+        } else if (comparison < 0) {
+            T ceilingInLeftSubtree = ceiling(node.left, element);
+            return ceilingInLeftSubtree != null ? ceilingInLeftSubtree : node.element;
+        }
+        return node.element;
+    }
+
+    /**
+     * Visits the left subtree only if it can contain elements that are not less than {@code from}, and the right
+     * subtree only if it can contain elements that are not greater than {@code to}.
+     */
+    private void rangeTraversal(Node<T> node, T from, T to, Consumer<T> consumer) {
+        if (node != null) {
+            boolean isNotLessThanFrom = node.element.compareTo(from) >= 0;
+            boolean isNotGreaterThanTo = node.element.compareTo(to) <= 0;
+            if (isNotLessThanFrom) {
+                rangeTraversal(node.left, from, to, consumer);
+            }
+            if (isNotLessThanFrom && isNotGreaterThanTo) {
+                consumer.accept(node.element);
+            }
+            if (isNotGreaterThanTo) {
+                rangeTraversal(node.right, from, to, consumer);
+            }
+        }
+    }
+
+    private static <T> Node<T> buildBalanced(T[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = new Node<>(elements[middle]);
+        if (to - from > SEQUENTIAL_BUILD_THRESHOLD) {
+            ForkJoinTask<Node<T>> leftTask = ForkJoinTask.adapt(() -> buildBalanced(elements, from, middle)).fork();
+            node.right = buildBalanced(elements, middle + 1, to);
+            node.left = leftTask.join();
+        } else {
+            node.left = buildBalanced(elements, from, middle);
+            node.right = buildBalanced(elements, middle + 1, to);
+        }
+        return node;
+    }
+
+    /**
+     * Nodes do not know the size of their subtrees, so the tree is split by levels instead: subtrees above this depth
+     * are forked. It gives a few tasks per thread of the current pool, so threads that finish early can steal more
+     * work.
+     */
+    private static int forkDepth() {
+        ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+        return 32 - Integer.numberOfLeadingZeros(pool.getParallelism()) + EXTRA_FORK_LEVELS;
+    }
+
+    private void parallelTraversal(Node<T> node, int level, int forkDepth, Consumer<T> consumer) {
+        if (node == null) {
+            return;
+        }
+        if (level >= forkDepth) {
+            inOrderTraversal(node, consumer);
+            return;
+        }
+        ForkJoinTask<?> leftTask = ForkJoinTask.adapt(
+                () -> parallelTraversal(node.left, level + 1, forkDepth, consumer)).fork();
+        consumer.accept(node.element);
+        parallelTraversal(node.right, level + 1, forkDepth, consumer);
+        leftTask.join();
+    }
+
+    private <R> R parallelReduce(Node<T> node, int level, int forkDepth, R identity,
+                                 BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+        if (node == null) {
+            return identity;
+        }
+        if (level >= forkDepth) {
+            return reduce(node, identity, accumulator);
+        }
+        ForkJoinTask<R> leftTask = ForkJoinTask.adapt(
+                () -> parallelReduce(node.left, level + 1, forkDepth, identity, accumulator, combiner)).fork();
+        R rightResult = parallelReduce(node.right, level + 1, forkDepth, identity, accumulator, combiner);
+        R nodeResult = accumulator.apply(identity, node.element);
+        return combiner.apply(combiner.apply(leftTask.join(), nodeResult), rightResult);
+    }
+
+    private <R> R reduce(Node<T> node, R result, BiFunction<R, ? super T, R> accumulator) {
+        if (node == null) {
+            return result;
+        }
+        result = reduce(node.left, result, accumulator);
+        result = accumulator.apply(result, node.element);
+        return reduce(node.right, result, accumulator);
+    }
+
+    private void checkIsEmpty() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+
+        private Node(T element) {
+            this.element = element;
+        }
     }
 }
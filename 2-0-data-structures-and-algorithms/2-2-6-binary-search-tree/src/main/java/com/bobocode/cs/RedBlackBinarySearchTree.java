@@ -0,0 +1,370 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * {@link RedBlackBinarySearchTree} is a self-balancing implementation of a {@link BinarySearchTree}. Every node is
+ * either red or black, the root is black, a red node never has a red child, and every path from a node down to a
+ * missing child contains the same number of black nodes. These rules keep the depth of the tree within
+ * {@code 2 * log2(n + 1)}, so sorted input does not turn the tree into a list.
+ * <p>
+ * Unlike {@link RecursiveBinarySearchTree}, all operations are iterative. Nodes keep a reference to the parent, so
+ * insertion fixes the colors walking up the tree, and traversal moves from a node to its successor without a stack.
+ *
+ * @param <T> a type of elements that are stored in the tree
+ */
+public class RedBlackBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    private Node<T> root;
+    private int size;
+    private int modCount;
+
+    public static <T extends Comparable<T>> RedBlackBinarySearchTree<T> of(T... elements) {
+        RedBlackBinarySearchTree<T> tree = new RedBlackBinarySearchTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T> parent = null;
+        Node<T> current = root;
+        int comparison = 0;
+        while (current != null) {
+            parent = current;
+            comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return false;
+            }
+        }
+        Node<T> newNode = new Node<>(element, parent);
+        if (parent == null) {
+            root = newNode;
+        } else if (comparison < 0) {
+            parent.left = newNode;
+        } else {
+            parent.right = newNode;
+        }
+        fixAfterInsertion(newNode);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Calculates the depth level by level, so it does not depend on the call stack size.
+     *
+     * @return max. number of transition between root node and any other node
+     */
+    @Override
+    public int depth() {
+        if (root == null) {
+            return 0;
+        }
+        Queue<Node<T>> level = new ArrayDeque<>();
+        level.add(root);
+        int depth = -1;
+        while (!level.isEmpty()) {
+            for (int i = level.size(); i > 0; i--) {
+                Node<T> node = level.remove();
+                if (node.left != null) {
+                    level.add(node.left);
+                }
+                if (node.right != null) {
+                    level.add(node.right);
+                }
+            }
+            depth++;
+        }
+        return depth;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Node<T> node = leftmost(root); node != null; node = successor(node)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    @Override
+    public T first() {
+        checkIsEmpty();
+        return leftmost(root).element;
+    }
+
+    @Override
+    public T last() {
+        checkIsEmpty();
+        return rightmost(root).element;
+    }
+
+    @Override
+    public T floor(T element) {
+        Node<T> node = floorNode(element);
+        return node == null ? null : node.element;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Node<T> node = ceilingNode(element);
+        return node == null ? null : node.element;
+    }
+
+    /**
+     * Finds the least node within the bounds in O(log n) time and then moves from a node to its successor until it
+     * goes out of the bounds.
+     */
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        for (Node<T> node = ceilingNode(from); node != null && node.element.compareTo(to) <= 0;
+             node = successor(node)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    /**
+     * Returns a lazy iterator that moves from a node to its successor. It is fail-fast and throws
+     * {@link ConcurrentModificationException} if an element was inserted after the iterator was created.
+     *
+     * @return an iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator();
+    }
+
+    /**
+     * Restores red-black rules after a red node was added. While the parent is red, either a red uncle allows to
+     * recolor and continue from the grandparent, or one or two rotations finish the fix.
+     */
+    private void fixAfterInsertion(Node<T> node) {
+        while (node != root && node.parent.color == RED) {
+            Node<T> parent = node.parent;
+            Node<T> grandparent = parent.parent;
+            if (parent == grandparent.left) {
+                Node<T> uncle = grandparent.right;
+                if (isRed(uncle)) {
+                    parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if (node == parent.right) {
+                        node = parent;
+                        rotateLeft(node);
+                        parent = node.parent;
+                    }
+                    parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateRight(grandparent);
+                }
+            } else {
+                Node<T> uncle = grandparent.left;
+                if (isRed(uncle)) {
+                    parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if (node == parent.left) {
+                        node = parent;
+                        rotateRight(node);
+                        parent = node.parent;
+                    }
+                    parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        root.color = BLACK;
+    }
+
+    private static boolean isRed(Node<?> node) {
+        return node != null && node.color == RED;
+    }
+
+    private void rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        if (right.left != null) {
+            right.left.parent = node;
+        }
+        replaceChild(node, right);
+        right.left = node;
+        node.parent = right;
+    }
+
+    private void rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        if (left.right != null) {
+            left.right.parent = node;
+        }
+        replaceChild(node, left);
+        left.right = node;
+        node.parent = left;
+    }
+
+    private void replaceChild(Node<T> oldChild, Node<T> newChild) {
+        Node<T> parent = oldChild.parent;
+        newChild.parent = parent;
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private void checkIsEmpty() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private static <T extends Comparable<T>> void checkRange(T from, T to) {
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+    }
+
+    private Node<T> floorNode(T element) {
+        Objects.requireNonNull(element);
+        Node<T> floor = null;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                floor = current;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+        return floor;
+    }
+
+    private Node<T> ceilingNode(T element) {
+        Objects.requireNonNull(element);
+        Node<T> ceiling = null;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = element.compareTo(current.element);
+            if (comparison < 0) {
+                ceiling = current;
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+        return ceiling;
+    }
+
+    private static <T> Node<T> leftmost(Node<T> node) {
+        if (node != null) {
+            while (node.left != null) {
+                node = node.left;
+            }
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rightmost(Node<T> node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node;
+    }
+
+    private static <T> Node<T> successor(Node<T> node) {
+        if (node.right != null) {
+            return leftmost(node.right);
+        }
+        Node<T> parent = node.parent;
+        while (parent != null && node == parent.right) {
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    private class TreeIterator implements Iterator<T> {
+        private final int expectedModCount = modCount;
+        private Node<T> next = leftmost(root);
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T element = next.element;
+            next = successor(next);
+            return element;
+        }
+    }
+
+    private static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        Node<T> parent;
+        boolean color = RED;
+
+        private Node(T element, Node<T> parent) {
+            this.element = element;
+            this.parent = parent;
+        }
+    }
+}
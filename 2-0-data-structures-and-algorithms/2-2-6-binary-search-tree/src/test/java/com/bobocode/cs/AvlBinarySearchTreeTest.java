@@ -0,0 +1,162 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class AvlBinarySearchTreeTest {
+    private static final double MAX_DEPTH_FACTOR = 1.44;
+
+    private final BinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+    @Test
+    void of() {
+        BinarySearchTree<Integer> tree = AvlBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(12)).isTrue();
+    }
+
+    @Test
+    void insertDoesNotAddDuplicateElements() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(10)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(1);
+    }
+
+    @Test
+    void nullElementsAreNotSupported() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depthOfSmallTrees() {
+        assertThat(tree.depth()).isZero();
+        tree.insert(1);
+        assertThat(tree.depth()).isZero();
+        tree.insert(2);
+        assertThat(tree.depth()).isEqualTo(1);
+        tree.insert(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    void sortedInputKeepsTreeBalanced() {
+        int size = 1_000_000;
+        IntStream.range(0, size).forEach(tree::insert);
+
+        assertThat(tree.size()).isEqualTo(size);
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxDepth(size));
+        assertThat(tree.contains(size - 1)).isTrue();
+        assertThat(tree.contains(size)).isFalse();
+    }
+
+    @Test
+    void reverseSortedInputKeepsTreeBalanced() {
+        int size = 1_000_000;
+        IntStream.range(0, size).map(i -> size - i).forEach(tree::insert);
+
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxDepth(size));
+    }
+
+    @Test
+    void inOrderTraversalOfRandomElements() {
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(5_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).containsExactlyElementsOf(expected);
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.depth()).isLessThanOrEqualTo(maxDepth(expected.size()));
+    }
+
+    @Test
+    void firstAndLast() {
+        IntStream.of(5, 1, 9, 3).forEach(tree::insert);
+
+        assertThat(tree.first()).isEqualTo(1);
+        assertThat(tree.last()).isEqualTo(9);
+    }
+
+    @Test
+    void firstAndLastOfEmptyTree() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::first);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::last);
+    }
+
+    @Test
+    void floorAndCeiling() {
+        IntStream.of(10, 20, 30).forEach(tree::insert);
+
+        assertThat(tree.floor(20)).isEqualTo(20);
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(5)).isNull();
+        assertThat(tree.ceiling(20)).isEqualTo(20);
+        assertThat(tree.ceiling(25)).isEqualTo(30);
+        assertThat(tree.ceiling(35)).isNull();
+    }
+
+    @Test
+    void rangeTraversalVisitsOnlyElementsWithinBounds() {
+        IntStream.range(0, 1_000).map(i -> i * 2).forEach(tree::insert);
+
+        List<Integer> visited = new ArrayList<>();
+        tree.rangeTraversal(101, 110, visited::add);
+
+        assertThat(visited).containsExactly(102, 104, 106, 108, 110);
+    }
+
+    @Test
+    void rangeTraversalWithInvalidBounds() {
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(2, 1, element -> {
+        }));
+    }
+
+    @Test
+    void iteratorAndStream() {
+        IntStream.of(3, 1, 2).forEach(tree::insert);
+
+        Iterator<Integer> iterator = tree.iterator();
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+        assertThat(tree.stream().map(String::valueOf)).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        IntStream.of(3, 1, 2).forEach(tree::insert);
+
+        Iterator<Integer> iterator = tree.iterator();
+        tree.insert(4);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+
+    private static int maxDepth(int size) {
+        return (int) (MAX_DEPTH_FACTOR * (Math.log(size + 2) / Math.log(2)));
+    }
+}
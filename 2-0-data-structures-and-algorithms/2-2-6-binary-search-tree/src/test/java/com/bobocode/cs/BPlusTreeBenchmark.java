@@ -0,0 +1,122 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link BPlusTree} with {@link RecursiveBinarySearchTree} and {@link TreeMap} on large
+ * trees of random keys. It measures lookups of random existing keys, a full in-order scan, and a range scan of
+ * {@code RANGE} consecutive keys that starts at a random key. Random keys keep the recursive tree shallow enough for
+ * its recursion.
+ * <p>
+ * The 20M keys case needs a large heap, so the benchmark is forked with 8 GB.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms8g", "-Xmx8g"})
+public class BPlusTreeBenchmark {
+    private static final int BATCH = 1024;
+    private static final int RANGE = 1000;
+
+    @Param({"1000000", "20000000"})
+    private int size;
+
+    @Param({"b+tree", "recursive", "java.util.TreeMap"})
+    private String implementation;
+
+    private BinarySearchTree<Integer> tree;
+    private TreeMap<Integer, Boolean> treeMap;
+    private Integer[] lookupKeys;
+
+    @Setup
+    public void setUp() {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        Random random = new Random(0);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+        }
+        if (implementation.equals("java.util.TreeMap")) {
+            treeMap = new TreeMap<>();
+            for (Integer key : keys) {
+                treeMap.put(key, Boolean.TRUE);
+            }
+        } else {
+            tree = implementation.equals("b+tree") ? new BPlusTree<>() : new RecursiveBinarySearchTree<>();
+            for (Integer key : keys) {
+                tree.insert(key);
+            }
+        }
+        lookupKeys = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            lookupKeys[i] = random.nextInt(size - RANGE);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int lookup() {
+        int found = 0;
+        for (Integer key : lookupKeys) {
+            if (tree != null ? tree.contains(key) : treeMap.containsKey(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        if (tree != null) {
+            tree.inOrderTraversal(blackhole::consume);
+        } else {
+            treeMap.keySet().forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void rangeScan(Blackhole blackhole) {
+        for (Integer from : lookupKeys) {
+            int to = from + RANGE - 1;
+            if (tree != null) {
+                tree.rangeTraversal(from, to, blackhole::consume);
+            } else {
+                treeMap.subMap(from, true, to, true).keySet().forEach(blackhole::consume);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BPlusTreeBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
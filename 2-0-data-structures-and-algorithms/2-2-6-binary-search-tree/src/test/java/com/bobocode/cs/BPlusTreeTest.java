@@ -0,0 +1,132 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class BPlusTreeTest {
+    private final BinarySearchTree<Integer> tree = new BPlusTree<>(4);
+
+    @Test
+    void of() {
+        BinarySearchTree<Integer> tree = BPlusTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(13)).isFalse();
+    }
+
+    @Test
+    void fanOutShouldBeAtLeastThree() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BPlusTree<Integer>(2));
+    }
+
+    @Test
+    void insertDoesNotAddDuplicateElements() {
+        IntStream.range(0, 100).forEach(tree::insert);
+
+        assertThat(tree.insert(0)).isFalse();
+        assertThat(tree.insert(50)).isFalse();
+        assertThat(tree.insert(99)).isFalse();
+        assertThat(tree.size()).isEqualTo(100);
+    }
+
+    @Test
+    void nullElementsAreNotSupported() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depthGrowsLogarithmically() {
+        assertThat(tree.depth()).isZero();
+        IntStream.range(0, 3).forEach(tree::insert);
+        assertThat(tree.depth()).isZero();
+        tree.insert(3);
+        assertThat(tree.depth()).isEqualTo(1);
+
+        BinarySearchTree<Integer> wideTree = new BPlusTree<>(64);
+        IntStream.range(0, 1_000_000).forEach(wideTree::insert);
+        assertThat(wideTree.depth()).isLessThanOrEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5, 16, 64})
+    void behavesLikeTreeSet(int fanOut) {
+        BinarySearchTree<Integer> tree = new BPlusTree<>(fanOut);
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(fanOut);
+        for (int i = 0; i < 20_000; i++) {
+            int element = random.nextInt(10_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+        for (int element = -1; element <= 10_000; element++) {
+            assertThat(tree.contains(element)).isEqualTo(expected.contains(element));
+            assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+            assertThat(tree.ceiling(element)).isEqualTo(expected.ceiling(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).containsExactlyElementsOf(expected);
+        assertThat(tree.stream()).containsExactlyElementsOf(expected);
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.first()).isEqualTo(expected.first());
+        assertThat(tree.last()).isEqualTo(expected.last());
+    }
+
+    @Test
+    void firstAndLastOfEmptyTree() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::first);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::last);
+    }
+
+    @Test
+    void rangeTraversalCrossesLeaves() {
+        IntStream.range(0, 1_000).map(i -> i * 2).forEach(tree::insert);
+
+        List<Integer> visited = new ArrayList<>();
+        tree.rangeTraversal(101, 121, visited::add);
+
+        assertThat(visited).containsExactly(102, 104, 106, 108, 110, 112, 114, 116, 118, 120);
+    }
+
+    @Test
+    void rangeTraversalWithInvalidBounds() {
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(2, 1, element -> {
+        }));
+    }
+
+    @Test
+    void iteratorOfEmptyTree() {
+        Iterator<Integer> iterator = tree.iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        IntStream.range(0, 10).forEach(tree::insert);
+
+        Iterator<Integer> iterator = tree.iterator();
+        tree.insert(10);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(iterator::next);
+    }
+}
@@ -0,0 +1,107 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link RedBlackBinarySearchTree} with {@link AvlBinarySearchTree} on sorted,
+ * reverse-sorted and random keys. It measures loading all keys into an empty tree and looking up every key in a loaded
+ * tree, and prints the depth of the loaded tree, so the throughput can be matched with the tree shape.
+ * <p>
+ * {@link RecursiveBinarySearchTree} is not included: sorted input turns it into a list, so loading it takes quadratic
+ * time and its recursive {@link BinarySearchTree#depth()} overflows the stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BalancedBinarySearchTreeBenchmark {
+    private static final int SIZE = 100_000;
+
+    @Param({"sorted", "reverse-sorted", "random"})
+    private String order;
+
+    @Param({"red-black", "avl"})
+    private String implementation;
+
+    private Integer[] keys;
+    private BinarySearchTree<Integer> loadedTree;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = order.equals("reverse-sorted") ? SIZE - i : i;
+        }
+        if (order.equals("random")) {
+            Random random = new Random(0);
+            for (int i = SIZE - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Integer key = keys[i];
+                keys[i] = keys[j];
+                keys[j] = key;
+            }
+        }
+        loadedTree = load();
+    }
+
+    @TearDown(Level.Trial)
+    public void printDepth() {
+        System.out.printf("%n%s tree of %d %s keys: depth = %d%n", implementation, SIZE, order, loadedTree.depth());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public BinarySearchTree<Integer> insert() {
+        return load();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int contains() {
+        int found = 0;
+        for (Integer key : keys) {
+            if (loadedTree.contains(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private BinarySearchTree<Integer> load() {
+        BinarySearchTree<Integer> tree = implementation.equals("red-black")
+                ? new RedBlackBinarySearchTree<>()
+                : new AvlBinarySearchTree<>();
+        for (Integer key : keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BalancedBinarySearchTreeBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
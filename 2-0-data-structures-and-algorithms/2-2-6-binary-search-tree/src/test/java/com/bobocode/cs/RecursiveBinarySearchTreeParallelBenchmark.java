@@ -0,0 +1,83 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A JMH benchmark that shows how {@link RecursiveBinarySearchTree#fromSorted(Comparable[])},
+ * {@link RecursiveBinarySearchTree#reduce} and {@link RecursiveBinarySearchTree#parallelInOrderTraversal} scale with
+ * the number of threads. Every operation is submitted to a {@link ForkJoinPool} of {@code parallelism} threads, so the
+ * forked tasks run in that pool. The run with parallelism 1 is the sequential baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class RecursiveBinarySearchTreeParallelBenchmark {
+    private static final int SIZE = 10_000_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private Integer[] sortedElements;
+    private RecursiveBinarySearchTree<Integer> tree;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        sortedElements = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            sortedElements[i] = i;
+        }
+        tree = RecursiveBinarySearchTree.fromSorted(sortedElements);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public RecursiveBinarySearchTree<Integer> fromSorted() {
+        return pool.submit(() -> RecursiveBinarySearchTree.fromSorted(sortedElements)).join();
+    }
+
+    @Benchmark
+    public long reduceSum() {
+        return pool.submit(() -> tree.reduce(0L, (sum, element) -> sum + element, Long::sum)).join();
+    }
+
+    @Benchmark
+    public long parallelInOrderTraversal() {
+        LongAdder sum = new LongAdder();
+        pool.submit(() -> tree.parallelInOrderTraversal(sum::add)).join();
+        return sum.sum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RecursiveBinarySearchTreeParallelBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
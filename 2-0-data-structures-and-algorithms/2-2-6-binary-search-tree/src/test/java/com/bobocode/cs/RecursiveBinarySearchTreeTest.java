@@ -14,10 +14,15 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -249,6 +254,109 @@ class RecursiveBinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void firstAndLast() {
+        fillTestTree(someElements);
+
+        assertThat(tree.first()).isEqualTo(7);
+        assertThat(tree.last()).isEqualTo(12);
+    }
+
+    @Test
+    @Order(21)
+    void firstThrowsExceptionIfTreeIsEmpty() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> tree.first());
+    }
+
+    @Test
+    @Order(22)
+    void floorAndCeiling() {
+        fillTestTree(10, 5, 15);
+
+        assertThat(tree.floor(12)).isEqualTo(10);
+        assertThat(tree.floor(4)).isNull();
+        assertThat(tree.ceiling(12)).isEqualTo(15);
+        assertThat(tree.ceiling(15)).isEqualTo(15);
+        assertThat(tree.ceiling(16)).isNull();
+    }
+
+    @Test
+    @Order(23)
+    void rangeTraversal() {
+        fillTestTree(6, 2, 7, 1, 5, 8, 4, 9, 3);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.rangeTraversal(3, 7, traversedElements::add);
+
+        assertThat(traversedElements).containsExactly(3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @Order(24)
+    void iterator() {
+        fillTestTree(someElements);
+        Integer[] sortedElements = Arrays.copyOf(someElements, someElements.length);
+        Arrays.sort(sortedElements);
+
+        List<Integer> iteratedElements = new ArrayList<>();
+        tree.iterator().forEachRemaining(iteratedElements::add);
+
+        assertThat(iteratedElements).isEqualTo(List.of(sortedElements));
+        assertThat(tree.stream().toList()).isEqualTo(List.of(sortedElements));
+    }
+
+    @Test
+    @Order(25)
+    void fromSortedBuildsBalancedTree() {
+        Integer[] elements = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+
+        tree = RecursiveBinarySearchTree.fromSorted(elements);
+
+        assertThat(tree.size()).isEqualTo(elements.length);
+        assertThat(tree.depth()).isEqualTo(16);
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(99_999)).isTrue();
+        assertThat(tree.stream().toList()).isEqualTo(List.of(elements));
+    }
+
+    @Test
+    @Order(26)
+    void fromSortedThrowsExceptionIfElementsAreNotSorted() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> RecursiveBinarySearchTree.fromSorted(new Integer[]{1, 3, 2}));
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> RecursiveBinarySearchTree.fromSorted(new Integer[]{1, 1}));
+    }
+
+    @Test
+    @Order(27)
+    void reduceCombinesElementsInOrder() {
+        String[] elements = IntStream.range(0, 10_000).mapToObj(i -> String.format("%05d", i)).toArray(String[]::new);
+        RecursiveBinarySearchTree<String> stringTree = RecursiveBinarySearchTree.fromSorted(elements);
+
+        String concatenated = stringTree.reduce("", String::concat, String::concat);
+
+        assertThat(concatenated).isEqualTo(String.join("", elements));
+    }
+
+    @Test
+    @Order(28)
+    void parallelInOrderTraversalVisitsEveryElement() {
+        Integer[] elements = IntStream.range(0, 100_000).boxed().toArray(Integer[]::new);
+        RecursiveBinarySearchTree<Integer> bigTree = RecursiveBinarySearchTree.fromSorted(elements);
+        LongAdder sum = new LongAdder();
+        LongAdder count = new LongAdder();
+
+        bigTree.parallelInOrderTraversal(element -> {
+            sum.add(element);
+            count.increment();
+        });
+
+        assertThat(count.sum()).isEqualTo(elements.length);
+        assertThat(sum.sum()).isEqualTo(bigTree.reduce(0L, (result, element) -> result + element, Long::sum));
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
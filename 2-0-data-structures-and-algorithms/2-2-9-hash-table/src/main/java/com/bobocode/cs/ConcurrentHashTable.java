@@ -0,0 +1,468 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConcurrentHashTable} is a thread-safe implementation of {@link Map} interface. Like {@link HashTable}, it is
+ * based on an array of buckets that store linked {@link Node}s, but it can be shared between threads without any
+ * external synchronization.
+ * <p>
+ * Reads do not take locks. All fields that readers rely on (bucket heads, node values and next references) are
+ * volatile, so a reader always sees a consistent chain of nodes.
+ * <p>
+ * Writes lock a single bucket. An empty bucket is filled with a compare-and-set, and a non-empty one is modified while
+ * holding the monitor of its first node. Threads that modify different buckets do not block each other.
+ * <p>
+ * Resize is cooperative. A thread that exceeds the threshold allocates a doubled array, and then every thread that
+ * meets a moved bucket helps to move the rest. Buckets are claimed in small ranges, and every moved bucket is replaced
+ * with a {@link ForwardingNode} that points readers and writers to the new array. Nodes are copied into the new array,
+ * so readers that are still traversing an old chain are not affected.
+ * <p>
+ * The number of elements is kept in a {@link LongAdder}, so concurrent puts and removes do not contend on a single
+ * counter. Null keys and values are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ConcurrentHashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float RESIZE_THRESHOLD = 0.75f;
+    private static final int TRANSFER_STRIDE = 16;
+    private static final int MOVED = -1;
+    private static final int HASH_BITS = 0x7fffffff;
+
+    private static final VarHandle BUCKETS = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle TABLE;
+    private static final VarHandle TRANSFER;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TABLE = lookup.findVarHandle(ConcurrentHashTable.class, "table", Node[].class);
+            TRANSFER = lookup.findVarHandle(ConcurrentHashTable.class, "transfer", Transfer.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<K, V>[] table;
+    private volatile Transfer<K, V> transfer;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Creates a table with a default capacity 16.
+     */
+    public ConcurrentHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table with a given initial capacity.
+     *
+     * @param initialCapacity initial number of buckets, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is negative or 0
+     */
+    public ConcurrentHashTable(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = initialCapacity >= MAX_CAPACITY ? MAX_CAPACITY
+                : Math.max(2, Integer.highestOneBit(initialCapacity - 1) << 1);
+        this.table = createTable(capacity);
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null.
+     *
+     * @param key   a key, must not be null
+     * @param value a value, must not be null
+     * @return old value or null
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        int hash = spread(key.hashCode());
+        Node<K, V>[] tab = table;
+        while (true) {
+            int index = hash & (tab.length - 1);
+            Node<K, V> head = bucketAt(tab, index);
+            if (head == null) {
+                if (casBucket(tab, index, null, new Node<>(hash, key, value))) {
+                    break;
+                }
+            } else if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+            } else {
+                synchronized (head) {
+                    if (bucketAt(tab, index) == head) {
+                        Node<K, V> current = head;
+                        while (true) {
+                            if (current.hash == hash && key.equals(current.key)) {
+                                V oldValue = current.value;
+                                current.value = value;
+                                return oldValue;
+                            }
+                            if (current.next == null) {
+                                current.next = new Node<>(hash, key, value);
+                                break;
+                            }
+                            current = current.next;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        size.increment();
+        growIfNeeded();
+        return null;
+    }
+
+    /**
+     * Retrieves a value by the given key. This method never blocks.
+     *
+     * @param key a key
+     * @return value stored in the table by the given key or null if there is no such key
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = findNode(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Checks if the table contains a given key. This method never blocks.
+     *
+     * @param key a key
+     * @return true is there is such key in the table or false otherwise
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(key) != null;
+    }
+
+    /**
+     * Checks if the table contains a given value. It scans all buckets, so the result may not reflect modifications
+     * that are made concurrently.
+     *
+     * @param value a value
+     * @return true is there is such value in the table or false otherwise
+     */
+    @Override
+    public boolean containsValue(V value) {
+        if (value == null) {
+            return false;
+        }
+        Node<K, V>[] tab = table;
+        for (int i = 0; i < tab.length; i++) {
+            if (bucketContainsValue(tab, i, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a number of elements in the table. The counter is not locked, so the result may not reflect
+     * modifications that are made concurrently.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        long sum = size.sum();
+        return sum < 0 ? 0 : (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size.sum() <= 0;
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     *
+     * @param key a key
+     * @return removed value or null
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = spread(key.hashCode());
+        Node<K, V>[] tab = table;
+        while (true) {
+            int index = hash & (tab.length - 1);
+            Node<K, V> head = bucketAt(tab, index);
+            if (head == null) {
+                return null;
+            } else if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+            } else {
+                synchronized (head) {
+                    if (bucketAt(tab, index) == head) {
+                        Node<K, V> previous = null;
+                        for (Node<K, V> current = head; current != null; current = current.next) {
+                            if (current.hash == hash && key.equals(current.key)) {
+                                if (previous == null) {
+                                    setBucket(tab, index, current.next);
+                                } else {
+                                    previous.next = current.next;
+                                }
+                                size.decrement();
+                                return current.value;
+                            }
+                            previous = current;
+                        }
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a string representation of the table in the format {@code {key1=value1, key2=value2}}. It may not
+     * reflect modifications that are made concurrently.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        Node<K, V>[] tab = table;
+        for (int i = 0; i < tab.length; i++) {
+            appendBucket(builder, tab, i);
+        }
+        return builder.append('}').toString();
+    }
+
+    private static int spread(int hashCode) {
+        return (hashCode ^ (hashCode >>> 16)) & HASH_BITS;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] createTable(int capacity) {
+        return (Node<K, V>[]) new Node[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> bucketAt(Node<K, V>[] tab, int index) {
+        return (Node<K, V>) BUCKETS.getVolatile(tab, index);
+    }
+
+    private static <K, V> boolean casBucket(Node<K, V>[] tab, int index, Node<K, V> expected, Node<K, V> node) {
+        return BUCKETS.compareAndSet(tab, index, expected, node);
+    }
+
+    private static <K, V> void setBucket(Node<K, V>[] tab, int index, Node<K, V> node) {
+        BUCKETS.setVolatile(tab, index, node);
+    }
+
+    private Node<K, V> findNode(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = spread(key.hashCode());
+        Node<K, V>[] tab = table;
+        while (true) {
+            Node<K, V> current = bucketAt(tab, hash & (tab.length - 1));
+            if (current == null) {
+                return null;
+            }
+            if (current.hash == MOVED) {
+                tab = ((ForwardingNode<K, V>) current).nextTable;
+                continue;
+            }
+            for (; current != null; current = current.next) {
+                if (current.hash == hash && key.equals(current.key)) {
+                    return current;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void growIfNeeded() {
+        Node<K, V>[] tab = table;
+        Transfer<K, V> currentTransfer = transfer;
+        if (currentTransfer != null) {
+            if (currentTransfer.from == tab) {
+                doTransfer(currentTransfer);
+            }
+            return;
+        }
+        if (tab.length < MAX_CAPACITY && size.sum() > tab.length * RESIZE_THRESHOLD) {
+            Transfer<K, V> newTransfer = new Transfer<>(tab, createTable(tab.length << 1));
+            if (TRANSFER.compareAndSet(this, null, newTransfer)) {
+                if (table == tab) {
+                    doTransfer(newTransfer);
+                } else {
+                    TRANSFER.compareAndSet(this, newTransfer, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Helps the transfer that has produced a given forwarding node, and returns the array to continue with.
+     */
+    private Node<K, V>[] helpTransfer(ForwardingNode<K, V> forwardingNode) {
+        Transfer<K, V> currentTransfer = transfer;
+        if (currentTransfer != null && currentTransfer.to == forwardingNode.nextTable) {
+            doTransfer(currentTransfer);
+        }
+        return forwardingNode.nextTable;
+    }
+
+    /**
+     * Claims ranges of buckets and moves them until there is nothing left to claim. The thread that moves the last
+     * bucket publishes the new array.
+     */
+    private void doTransfer(Transfer<K, V> currentTransfer) {
+        Node<K, V>[] from = currentTransfer.from;
+        while (true) {
+            int start = currentTransfer.nextBucket.getAndAdd(TRANSFER_STRIDE);
+            if (start >= from.length) {
+                return;
+            }
+            int end = Math.min(start + TRANSFER_STRIDE, from.length);
+            for (int i = start; i < end; i++) {
+                moveBucket(currentTransfer, i);
+            }
+            if (currentTransfer.remainingBuckets.addAndGet(start - end) == 0) {
+                TABLE.compareAndSet(this, from, currentTransfer.to);
+                TRANSFER.compareAndSet(this, currentTransfer, null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copies a bucket into two buckets of the doubled array (index and index + old length) and replaces it with a
+     * forwarding node.
+     */
+    private void moveBucket(Transfer<K, V> currentTransfer, int index) {
+        Node<K, V>[] from = currentTransfer.from;
+        Node<K, V>[] to = currentTransfer.to;
+        ForwardingNode<K, V> forwardingNode = currentTransfer.forwardingNode;
+        while (true) {
+            Node<K, V> head = bucketAt(from, index);
+            if (head == null) {
+                if (casBucket(from, index, null, forwardingNode)) {
+                    return;
+                }
+            } else if (head.hash == MOVED) {
+                return;
+            } else {
+                synchronized (head) {
+                    if (bucketAt(from, index) == head) {
+                        Node<K, V> low = null;
+                        Node<K, V> high = null;
+                        for (Node<K, V> current = head; current != null; current = current.next) {
+                            Node<K, V> copy = new Node<>(current.hash, current.key, current.value);
+                            if ((current.hash & from.length) == 0) {
+                                copy.next = low;
+                                low = copy;
+                            } else {
+                                copy.next = high;
+                                high = copy;
+                            }
+                        }
+                        setBucket(to, index, low);
+                        setBucket(to, index + from.length, high);
+                        setBucket(from, index, forwardingNode);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean bucketContainsValue(Node<K, V>[] tab, int index, V value) {
+        Node<K, V> current = bucketAt(tab, index);
+        if (current != null && current.hash == MOVED) {
+            Node<K, V>[] nextTable = ((ForwardingNode<K, V>) current).nextTable;
+            return bucketContainsValue(nextTable, index, value)
+                    || bucketContainsValue(nextTable, index + tab.length, value);
+        }
+        for (; current != null; current = current.next) {
+            if (value.equals(current.value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void appendBucket(StringBuilder builder, Node<K, V>[] tab, int index) {
+        Node<K, V> current = bucketAt(tab, index);
+        if (current != null && current.hash == MOVED) {
+            Node<K, V>[] nextTable = ((ForwardingNode<K, V>) current).nextTable;
+            appendBucket(builder, nextTable, index);
+            appendBucket(builder, nextTable, index + tab.length);
+            return;
+        }
+        for (; current != null; current = current.next) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(current.key).append('=').append(current.value);
+        }
+    }
+
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A node that replaces a moved bucket. It has no key and a special hash {@link #MOVED}.
+     */
+    private static class ForwardingNode<K, V> extends Node<K, V> {
+        final Node<K, V>[] nextTable;
+
+        ForwardingNode(Node<K, V>[] nextTable) {
+            super(MOVED, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * A state of a resize that is shared by all threads taking part in it.
+     */
+    private static class Transfer<K, V> {
+        final Node<K, V>[] from;
+        final Node<K, V>[] to;
+        final ForwardingNode<K, V> forwardingNode;
+        final AtomicInteger nextBucket = new AtomicInteger();
+        final AtomicInteger remainingBuckets;
+
+        Transfer(Node<K, V>[] from, Node<K, V>[] to) {
+            this.from = from;
+            this.to = to;
+            this.forwardingNode = new ForwardingNode<>(to);
+            this.remainingBuckets = new AtomicInteger(from.length);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.Objects;
 
 /**
  * {@link HashTable} is a simple Hashtable-based implementation of {@link Map} interface with some additional methods.
@@ -18,6 +18,12 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * calling method resizeTable, or it will be done automatically once the table reach resize threshold.
  * <p>
  * The initial array size (initial capacity) is 8.
+ * <p>
+ * A regular resize rehashes all elements at once, so the put that triggers it takes O(n) time. A table created with
+ * {@code incrementalResize} enabled resizes like Redis dictionaries do. When the threshold is reached, it allocates a
+ * new array and keeps the old one, and then every put, get, containsKey and remove migrates a few buckets from the old
+ * array to the new one. While migration is in progress, lookups check both arrays, and new elements are added only to
+ * the new array. It spreads the cost of a resize across many operations, so no single operation pays for all of it.
  * <p><p>
  * <strong>TODO: to get the most out of your learning, <a href="https://www.bobocode.com">visit our website</a></strong>
  * <p>
@@ -27,6 +33,49 @@ import com.bobocode.util.ExerciseNotCompletedException;
  * @author Taras Boychuk
  */
 public class HashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float RESIZE_THRESHOLD = 0.75f;
+    private static final int REHASH_BUCKETS_PER_STEP = 4;
+    private static final int MAX_EMPTY_BUCKETS_PER_STEP = REHASH_BUCKETS_PER_STEP * 10;
+
+    private final boolean incrementalResize;
+    private Node<K, V>[] table;
+    private int size;
+    private Node<K, V>[] oldTable;
+    private int rehashIndex;
+
+    /**
+     * Creates a table with a default capacity 8 that resizes all at once.
+     */
+    public HashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table with a given capacity that resizes all at once.
+     *
+     * @param initialCapacity initial size of the underlying array
+     * @throws IllegalArgumentException if capacity is negative or 0
+     */
+    public HashTable(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates a table with a given capacity.
+     *
+     * @param initialCapacity   initial size of the underlying array
+     * @param incrementalResize if {@code true}, automatic resizes migrate elements gradually during subsequent
+     *                          operations instead of rehashing the whole table at once
+     * @throws IllegalArgumentException if capacity is negative or 0
+     */
+    public HashTable(int initialCapacity, boolean incrementalResize) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.table = createTable(initialCapacity);
+        this.incrementalResize = incrementalResize;
+    }
 
     /**
      * This method is a critical part of the hast table. The main idea is that having a key, you can calculate its index
@@ -43,7 +92,8 @@ public class HashTable<K, V> implements Map<K, V> {
      * @return array index of the given key
      */
     public static int calculateIndex(Object key, int tableCapacity) {
-        throw new ExerciseNotCompletedException(); // todo:
+        int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % tableCapacity;
     }
 
     /**
@@ -59,7 +109,23 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public V put(K key, V value) {
-        throw new ExerciseNotCompletedException(); // todo:
+        Objects.requireNonNull(key);
+        rehashStep();
+        Node<K, V> existingNode = findNode(key);
+        if (existingNode != null) {
+            V oldValue = existingNode.value;
+            existingNode.value = value;
+            return oldValue;
+        }
+        int index = calculateIndex(key, table.length);
+        Node<K, V> newNode = new Node<>(key, value);
+        newNode.next = table[index];
+        table[index] = newNode;
+        size++;
+        if (size > table.length * RESIZE_THRESHOLD) {
+            grow();
+        }
+        return null;
     }
 
     /**
@@ -71,7 +137,9 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public V get(K key) {
-        throw new ExerciseNotCompletedException(); // todo:
+        rehashStep();
+        Node<K, V> node = findNode(key);
+        return node != null ? node.value : null;
     }
 
     /**
@@ -82,7 +150,8 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public boolean containsKey(K key) {
-        throw new ExerciseNotCompletedException(); // todo:
+        rehashStep();
+        return findNode(key) != null;
     }
 
     /**
@@ -93,7 +162,7 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public boolean containsValue(V value) {
-        throw new ExerciseNotCompletedException(); // todo:
+        return containsValue(table, value) || (oldTable != null && containsValue(oldTable, value));
     }
 
     /**
@@ -103,7 +172,7 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo:
+        return size;
     }
 
     /**
@@ -113,7 +182,7 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo:
+        return size == 0;
     }
 
     /**
@@ -124,7 +193,16 @@ public class HashTable<K, V> implements Map<K, V> {
      */
     @Override
     public V remove(K key) {
-        throw new ExerciseNotCompletedException(); // todo:
+        rehashStep();
+        Node<K, V> removedNode = removeNode(table, key);
+        if (removedNode == null && oldTable != null) {
+            removedNode = removeNode(oldTable, key);
+        }
+        if (removedNode == null) {
+            return null;
+        }
+        size--;
+        return removedNode.value;
     }
 
     /**
@@ -145,12 +223,20 @@ public class HashTable<K, V> implements Map<K, V> {
      * 6:
      * 7:
      * </pre>
+     * While an incremental resize is in progress, the buckets of the old array that are not migrated yet are printed
+     * after the new array, in the same format.
      *
      * @return
      */
     @Override
     public String toString() {
-        throw new ExerciseNotCompletedException(); // todo:
+        StringBuilder builder = new StringBuilder();
+        appendTable(builder, table);
+        if (oldTable != null) {
+            builder.append("rehashing:\n");
+            appendTable(builder, oldTable);
+        }
+        return builder.toString();
     }
 
     /**
@@ -164,9 +250,168 @@ public class HashTable<K, V> implements Map<K, V> {
      * for learning purposes. You can create a table, print it using toString, then resizeTable and print it again.
      * It will help you to understand how it works.
      *
+     * If an incremental resize is in progress, it is completed as a part of this call.
+     *
      * @param newCapacity a size of the new underlying array
      */
     public void resizeTable(int newCapacity) {
-        throw new ExerciseNotCompletedException(); // todo:
+        if (newCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        Node<K, V>[] newTable = createTable(newCapacity);
+        moveAll(table, newTable);
+        if (oldTable != null) {
+            moveAll(oldTable, newTable);
+            oldTable = null;
+        }
+        table = newTable;
+    }
+
+    private void grow() {
+        int newCapacity = table.length << 1;
+        if (newCapacity < 0) {
+            return;
+        }
+        if (!incrementalResize) {
+            resizeTable(newCapacity);
+            return;
+        }
+        if (oldTable != null) {
+            // the previous migration has not finished yet, so it is completed together with this resize
+            resizeTable(newCapacity);
+            return;
+        }
+        oldTable = table;
+        table = createTable(newCapacity);
+        rehashIndex = 0;
+    }
+
+    /**
+     * Migrates up to {@link #REHASH_BUCKETS_PER_STEP} non-empty buckets from the old array to the new one. In order to
+     * keep the step short on a sparse table, it also stops after visiting {@link #MAX_EMPTY_BUCKETS_PER_STEP} empty
+     * buckets.
+     */
+    private void rehashStep() {
+        if (oldTable == null) {
+            return;
+        }
+        int movedBuckets = 0;
+        int emptyBuckets = 0;
+        while (rehashIndex < oldTable.length
+                && movedBuckets < REHASH_BUCKETS_PER_STEP
+                && emptyBuckets < MAX_EMPTY_BUCKETS_PER_STEP) {
+            Node<K, V> bucket = oldTable[rehashIndex];
+            if (bucket == null) {
+                emptyBuckets++;
+            } else {
+                moveBucket(bucket, table);
+                oldTable[rehashIndex] = null;
+                movedBuckets++;
+            }
+            rehashIndex++;
+        }
+        if (rehashIndex == oldTable.length) {
+            oldTable = null;
+        }
+    }
+
+    private Node<K, V> findNode(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Node<K, V> node = findNode(table, key);
+        if (node == null && oldTable != null) {
+            node = findNode(oldTable, key);
+        }
+        return node;
+    }
+
+    private Node<K, V> findNode(Node<K, V>[] nodes, Object key) {
+        Node<K, V> current = nodes[calculateIndex(key, nodes.length)];
+        while (current != null && !current.key.equals(key)) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    private Node<K, V> removeNode(Node<K, V>[] nodes, Object key) {
+        if (key == null) {
+            return null;
+        }
+        int index = calculateIndex(key, nodes.length);
+        Node<K, V> current = nodes[index];
+        Node<K, V> previous = null;
+        while (current != null && !current.key.equals(key)) {
+            previous = current;
+            current = current.next;
+        }
+        if (current != null) {
+            if (previous == null) {
+                nodes[index] = current.next;
+            } else {
+                previous.next = current.next;
+            }
+        }
+        return current;
+    }
+
+    private static <K, V> boolean containsValue(Node<K, V>[] nodes, V value) {
+        for (Node<K, V> head : nodes) {
+            for (Node<K, V> current = head; current != null; current = current.next) {
+                if (Objects.equals(current.value, value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <K, V> void moveAll(Node<K, V>[] from, Node<K, V>[] to) {
+        for (Node<K, V> bucket : from) {
+            moveBucket(bucket, to);
+        }
+    }
+
+    /**
+     * Relinks all nodes of a bucket into another array. Nodes are reused, so no objects are allocated.
+     */
+    private static <K, V> void moveBucket(Node<K, V> bucket, Node<K, V>[] to) {
+        Node<K, V> current = bucket;
+        while (current != null) {
+            Node<K, V> next = current.next;
+            int index = calculateIndex(current.key, to.length);
+            current.next = to[index];
+            to[index] = current;
+            current = next;
+        }
+    }
+
+    private static void appendTable(StringBuilder builder, Node<?, ?>[] nodes) {
+        for (int i = 0; i < nodes.length; i++) {
+            builder.append(i).append(": ");
+            for (Node<?, ?> current = nodes[i]; current != null; current = current.next) {
+                builder.append(current.key).append("=").append(current.value);
+                if (current.next != null) {
+                    builder.append(" -> ");
+                }
+            }
+            builder.append("\n");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] createTable(int capacity) {
+        return (Node<K, V>[]) new Node[capacity];
+    }
+
+    private static class Node<K, V> {
+        K key;
+        V value;
+        Node<K, V> next;
+
+        public Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
     }
 }
@@ -0,0 +1,245 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link IntObjectHashTable} is a hash table that maps primitive {@code int} keys to object values. Unlike
+ * {@code HashTable<Integer, V>}, it neither boxes keys nor creates a node per entry. Keys and values are stored in two
+ * parallel arrays and collisions are resolved with linear probing.
+ * <p>
+ * Key {@code 0} is used as a sentinel that marks a free slot, so a mapping for key {@code 0} is stored in separate
+ * fields. Null values are not supported, since {@code null} is returned for missing keys.
+ * <p>
+ * The capacity is always a power of two. Once the number of elements exceeds {@code capacity * 0.75}, the table is
+ * doubled.
+ *
+ * @param <V> value type
+ */
+public class IntObjectHashTable<V> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+    private V zeroKeyValue;
+
+    /**
+     * Creates a table with a given initial capacity.
+     *
+     * @param initialCapacity initial number of slots, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public IntObjectHashTable(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Creates a table with default capacity 8.
+     */
+    public IntObjectHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null.
+     *
+     * @param key   a key
+     * @param value a value, must not be null
+     * @return old value or null
+     */
+    public V put(int key, V value) {
+        Objects.requireNonNull(value);
+        if (key == FREE_KEY) {
+            V oldValue = zeroKeyValue;
+            zeroKeyValue = value;
+            if (oldValue == null) {
+                size++;
+            }
+            return oldValue;
+        }
+        int index = hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                V oldValue = (V) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a value by the given key.
+     *
+     * @param key a key
+     * @return value stored in the table by the given key or null if there is no such key
+     */
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return zeroKeyValue;
+        }
+        int index = findIndex(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key a key
+     * @return true is there is such key in the table or false otherwise
+     */
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? zeroKeyValue != null : findIndex(key) >= 0;
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     *
+     * @param key a key
+     * @return removed value or null
+     */
+    public V remove(int key) {
+        if (key == FREE_KEY) {
+            V oldValue = zeroKeyValue;
+            if (oldValue != null) {
+                zeroKeyValue = null;
+                size--;
+            }
+            return oldValue;
+        }
+        int index = findIndex(key);
+        if (index < 0) {
+            return null;
+        }
+        V removedValue = (V) values[index];
+        shiftBack(index);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns a string representation of the table in the format {@code {key1=value1, key2=value2}}.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        if (zeroKeyValue != null) {
+            builder.append(FREE_KEY).append('=').append(zeroKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Spreads a key with Fibonacci hashing, so sequential keys do not form long clusters of occupied slots.
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return capacity >= MAX_CAPACITY ? MAX_CAPACITY : Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    private int findIndex(int key) {
+        int index = hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Frees a slot with backward-shift deletion: every following element of the cluster that can be moved closer to
+     * its home slot fills the gap, so lookups never stop early at a removed element.
+     */
+    private void shiftBack(int gap) {
+        int index = (gap + 1) & mask;
+        while (keys[index] != FREE_KEY) {
+            int home = hash(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void resize(int newCapacity) {
+        if (keys.length == MAX_CAPACITY) {
+            if (size >= MAX_CAPACITY - 1) {
+                throw new IllegalStateException("Hash table is full");
+            }
+            return;
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int index = hash(oldKeys[i]) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.bobocode.cs;
+
+/**
+ * {@link LongLongHashTable} is a hash table that maps primitive {@code long} keys to primitive {@code long} values.
+ * Neither keys nor values are boxed, the whole table is stored in two {@code long} arrays and collisions are resolved
+ * with linear probing.
+ * <p>
+ * Since a primitive value cannot be null, methods that return a value use a sentinel {@code missingValue} (0 by
+ * default) to report that there is no such key. If the sentinel can be a real value, use {@link #containsKey(long)}
+ * to tell them apart. Key {@code 0} is used to mark a free slot, so a mapping for key {@code 0} is stored in separate
+ * fields.
+ * <p>
+ * The capacity is always a power of two. Once the number of elements exceeds {@code capacity * 0.75}, the table is
+ * doubled.
+ */
+public class LongLongHashTable {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long FREE_KEY = 0L;
+
+    private final long missingValue;
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroKeyValue;
+
+    /**
+     * Creates a table with a given initial capacity and a value that is returned for missing keys.
+     *
+     * @param initialCapacity initial number of slots, rounded up to a power of two
+     * @param missingValue    a value returned by {@link #get(long)}, {@link #put(long, long)} and {@link #remove(long)}
+     *                        when there is no such key
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public LongLongHashTable(int initialCapacity, long missingValue) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.missingValue = missingValue;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Creates a table with a given initial capacity. Missing keys are reported with value 0.
+     *
+     * @param initialCapacity initial number of slots, rounded up to a power of two
+     */
+    public LongLongHashTable(int initialCapacity) {
+        this(initialCapacity, 0L);
+    }
+
+    /**
+     * Creates a table with default capacity 8. Missing keys are reported with value 0.
+     */
+    public LongLongHashTable() {
+        this(DEFAULT_CAPACITY, 0L);
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * the missing value.
+     *
+     * @param key   a key
+     * @param value a value
+     * @return old value or the missing value
+     */
+    public long put(long key, long value) {
+        if (key == FREE_KEY) {
+            long oldValue = hasZeroKey ? zeroKeyValue : missingValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return oldValue;
+        }
+        int index = hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                long oldValue = values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            resize(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * Retrieves a value by the given key.
+     *
+     * @param key a key
+     * @return value stored in the table by the given key or the missing value if there is no such key
+     */
+    public long get(long key) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroKeyValue : missingValue;
+        }
+        int index = findIndex(key);
+        return index >= 0 ? values[index] : missingValue;
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key a key
+     * @return true is there is such key in the table or false otherwise
+     */
+    public boolean containsKey(long key) {
+        return key == FREE_KEY ? hasZeroKey : findIndex(key) >= 0;
+    }
+
+    /**
+     * Returns the value that is reported for missing keys.
+     *
+     * @return the missing value
+     */
+    public long missingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns
+     * the missing value.
+     *
+     * @param key a key
+     * @return removed value or the missing value
+     */
+    public long remove(long key) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                return missingValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroKeyValue;
+        }
+        int index = findIndex(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        long removedValue = values[index];
+        shiftBack(index);
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns a string representation of the table in the format {@code {key1=value1, key2=value2}}.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        if (hasZeroKey) {
+            builder.append(FREE_KEY).append('=').append(zeroKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Folds a key into an {@code int} and spreads it with Fibonacci hashing, so sequential keys do not form long
+     * clusters of occupied slots.
+     */
+    private static int hash(long key) {
+        int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return capacity >= MAX_CAPACITY ? MAX_CAPACITY : Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    private int findIndex(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Frees a slot with backward-shift deletion: every following element of the cluster that can be moved closer to
+     * its home slot fills the gap, so lookups never stop early at a removed element.
+     */
+    private void shiftBack(int gap) {
+        int index = (gap + 1) & mask;
+        while (keys[index] != FREE_KEY) {
+            int home = hash(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = 0L;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void resize(int newCapacity) {
+        if (keys.length == MAX_CAPACITY) {
+            if (size >= MAX_CAPACITY - 1) {
+                throw new IllegalStateException("Hash table is full");
+            }
+            return;
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int index = hash(oldKeys[i]) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+
+/**
+ * {@link OpenAddressingHashTable} is an open-addressing implementation of {@link Map} interface. Unlike
+ * {@link HashTable}, it does not create a node per entry. Keys, values and key hashes are stored in three parallel
+ * arrays, so a lookup reads neighbouring array cells instead of following references.
+ * <p>
+ * Collisions are resolved with linear probing and Robin Hood hashing: while inserting an element, it takes the slot of
+ * any element that is closer to its home slot (home slot is the index calculated from a hash). It keeps probe
+ * sequences short and allows to stop a failed lookup as soon as it meets an element that is closer to its home slot
+ * than the key being searched.
+ * <p>
+ * Removal uses backward-shift deletion: elements that follow the removed one are moved one slot back, so the table
+ * never contains tombstones.
+ * <p>
+ * The capacity is always a power of two. Once the number of elements exceeds {@code capacity * loadFactor}, the table
+ * is doubled. Null keys are not supported.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class OpenAddressingHashTable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Creates a table with a given initial capacity and load factor.
+     *
+     * @param initialCapacity initial number of slots, rounded up to a power of two
+     * @param loadFactor      max ratio of elements to slots, it should be greater than 0 and less than 1
+     * @throws IllegalArgumentException if capacity is not positive or load factor is out of (0, 1) range
+     */
+    public OpenAddressingHashTable(int initialCapacity, float loadFactor) {
+        if (initialCapacity <= 0 || !(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException();
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Creates a table with a given initial capacity and default load factor 0.75.
+     *
+     * @param initialCapacity initial number of slots, rounded up to a power of two
+     */
+    public OpenAddressingHashTable(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a table with default capacity 8 and default load factor 0.75.
+     */
+    public OpenAddressingHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a mapping between provided key and value, and returns the old value. If there was no such key, it returns
+     * null.
+     *
+     * @param key   a key, must not be null
+     * @param value a value
+     * @return old value or null
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        int hash = hash(key);
+        int index = findIndex(key, hash);
+        if (index >= 0) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size >= threshold) {
+            resize(keys.length << 1);
+        }
+        insert(key, value, hash);
+        size++;
+        return null;
+    }
+
+    /**
+     * Retrieves a value by the given key.
+     *
+     * @param key a key
+     * @return value stored in the table by the given key or null if there is no such key
+     */
+    @Override
+    public V get(K key) {
+        int index = findIndex(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Checks if the table contains a given key.
+     *
+     * @param key a key
+     * @return true is there is such key in the table or false otherwise
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return findIndex(key) >= 0;
+    }
+
+    /**
+     * Checks if the table contains a given value. It scans the whole table.
+     *
+     * @param value a value
+     * @return true is there is such value in the table or false otherwise
+     */
+    @Override
+    public boolean containsValue(V value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return a number of elements in the table.
+     *
+     * @return size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks is the table is empty.
+     *
+     * @return true is table size is zero or false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes an element by its key and returns a removed value. If there is no such key in the table, it returns null.
+     * Elements that follow the removed one in the same probe sequence are shifted one slot back.
+     *
+     * @param key a key
+     * @return removed value or null
+     */
+    @Override
+    public V remove(K key) {
+        int index = findIndex(key);
+        if (index < 0) {
+            return null;
+        }
+        V removedValue = (V) values[index];
+        int next = (index + 1) & mask;
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            hashes[index] = hashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removedValue;
+    }
+
+    /**
+     * Returns a string representation of the table in the format {@code {key1=value1, key2=value2}}.
+     *
+     * @return string representation
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Spreads a hash code with Fibonacci hashing, so sequential hash codes (e.g. of {@link Integer} keys) do not form
+     * long clusters of occupied slots.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return capacity >= MAX_CAPACITY ? MAX_CAPACITY : Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    private int findIndex(Object key) {
+        return key == null ? -1 : findIndex(key, hash(key));
+    }
+
+    private int findIndex(Object key, int hash) {
+        int index = hash & mask;
+        for (int distance = 0; keys[index] != null && distance <= probeDistance(index); distance++) {
+            if (hashes[index] == hash && key.equals(keys[index])) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int probeDistance(int index) {
+        return (index - (hashes[index] & mask)) & mask;
+    }
+
+    /**
+     * Inserts a new key. Every element on the way that is closer to its home slot than the element being inserted
+     * gives its slot away and continues probing itself.
+     */
+    private void insert(Object key, Object value, int hash) {
+        int index = hash & mask;
+        int distance = 0;
+        while (keys[index] != null) {
+            int existingDistance = probeDistance(index);
+            if (existingDistance < distance) {
+                Object evictedKey = keys[index];
+                Object evictedValue = values[index];
+                int evictedHash = hashes[index];
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+                key = evictedKey;
+                value = evictedValue;
+                hash = evictedHash;
+                distance = existingDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * loadFactor);
+    }
+
+    private void resize(int newCapacity) {
+        if (keys.length == MAX_CAPACITY) {
+            if (size == MAX_CAPACITY - 1) {
+                throw new IllegalStateException("Hash table is full");
+            }
+            return;
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+}
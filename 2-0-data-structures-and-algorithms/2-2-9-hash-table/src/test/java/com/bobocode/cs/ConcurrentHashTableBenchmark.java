@@ -0,0 +1,84 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A multithreaded JMH benchmark that compares {@link ConcurrentHashTable} with {@link ConcurrentHashMap}. Every
+ * operation is a get with probability {@code readPercent}, otherwise it is a put or a remove of a random key from
+ * a fixed key range. {@link #main(String[])} runs it with 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentHashTableBenchmark {
+    private static final int KEYS = 1 << 20;
+
+    @Param({"90", "50"})
+    private int readPercent;
+
+    @Param({"ConcurrentHashTable", "ConcurrentHashMap"})
+    private String implementation;
+
+    private Map<Integer, Integer> table;
+    private ConcurrentHashMap<Integer, Integer> concurrentHashMap;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp() {
+        table = new ConcurrentHashTable<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i;
+            if (i % 2 == 0) {
+                table.put(keys[i], keys[i]);
+                concurrentHashMap.put(keys[i], keys[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEYS)];
+        int operation = random.nextInt(100);
+        boolean isHashTable = implementation.equals("ConcurrentHashTable");
+        if (operation < readPercent) {
+            return isHashTable ? table.get(key) : concurrentHashMap.get(key);
+        } else if ((operation & 1) == 0) {
+            return isHashTable ? table.put(key, key) : concurrentHashMap.put(key, key);
+        } else {
+            return isHashTable ? table.remove(key) : concurrentHashMap.remove(key);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentHashTableBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+                    .run();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ConcurrentHashTableTest {
+    private static final int THREADS = 8;
+
+    private final Map<String, Integer> map = new ConcurrentHashTable<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(map.put("madmax", 833)).isNull();
+        assertThat(map.put("madmax", 876)).isEqualTo(833);
+
+        assertThat(map.get("madmax")).isEqualTo(876);
+        assertThat(map.get("leon")).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keysWithTheSameHashCode() {
+        map.put("AaAa", 1);
+        map.put("BBBB", 2);
+        map.put("AaBB", 3);
+
+        assertThat(map.remove("BBBB")).isEqualTo(2);
+
+        assertThat(map.get("AaAa")).isEqualTo(1);
+        assertThat(map.get("AaBB")).isEqualTo(3);
+        assertThat(map.containsKey("BBBB")).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void containsValueAfterResize() {
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, i);
+        }
+
+        assertThat(map.containsValue(999)).isTrue();
+        assertThat(map.containsValue(1000)).isFalse();
+    }
+
+    @Test
+    void nullKeysAndValuesAreNotSupported() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> map.put(null, 1));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> map.put("key", null));
+        assertThat(map.get(null)).isNull();
+        assertThat(map.remove(null)).isNull();
+    }
+
+    @Test
+    void behavesLikeJavaUtilHashMap() {
+        java.util.Map<String, Integer> expected = new HashMap<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 50_000; i++) {
+            String key = "key" + random.nextInt(5_000);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+                case 1 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void concurrentPutsAcrossResizes() throws Exception {
+        Map<Integer, Integer> table = new ConcurrentHashTable<>(2);
+        int keysPerThread = 20_000;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < keysPerThread; i++) {
+                int key = thread * keysPerThread + i;
+                table.put(key, key);
+            }
+        });
+
+        assertThat(table.size()).isEqualTo(THREADS * keysPerThread);
+        for (int key = 0; key < THREADS * keysPerThread; key++) {
+            assertThat(table.get(key)).isEqualTo(key);
+        }
+    }
+
+    @Test
+    void concurrentPutsAndRemovesOfTheSameKeys() throws Exception {
+        Map<Integer, Integer> table = new ConcurrentHashTable<>();
+        AtomicInteger successfulRemoves = new AtomicInteger();
+        AtomicInteger newKeys = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < 50_000; i++) {
+                int key = random.nextInt(1_000);
+                if (random.nextBoolean()) {
+                    if (table.put(key, key) == null) {
+                        newKeys.incrementAndGet();
+                    }
+                } else if (table.remove(key) != null) {
+                    successfulRemoves.incrementAndGet();
+                }
+            }
+        });
+
+        int present = 0;
+        for (int key = 0; key < 1_000; key++) {
+            if (table.containsKey(key)) {
+                present++;
+            }
+        }
+        assertThat(newKeys.get() - successfulRemoves.get()).isEqualTo(present);
+        assertThat(table.size()).isEqualTo(present);
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            java.util.List<Future<?>> futures = new java.util.ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadNumber = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(threadNumber);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
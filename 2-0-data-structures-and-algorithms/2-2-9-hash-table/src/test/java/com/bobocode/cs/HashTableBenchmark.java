@@ -0,0 +1,157 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that compares {@link OpenAddressingHashTable} with {@link java.util.HashMap}. Every operation is
+ * measured on a table that already contains {@code size} entries: put of a new key, get of an existing key, get of a
+ * missing key, and remove followed by put (so the table size stays the same between invocations).
+ * <p>
+ * The 50M entries case needs a large heap, so the benchmark is forked with 16 GB.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms16g", "-Xmx16g"})
+public class HashTableBenchmark {
+    private static final int BATCH = 1024;
+
+    @Param({"1000", "1000000", "50000000"})
+    private int size;
+
+    @Param({"open-addressing", "java.util.HashMap"})
+    private String implementation;
+
+    private MapAdapter map;
+    private Integer[] presentKeys;
+    private Integer[] missingKeys;
+    private int cursor;
+    private int nextNewKey;
+
+    @Setup
+    public void setUp() {
+        map = implementation.equals("open-addressing")
+                ? new TableAdapter(new OpenAddressingHashTable<>())
+                : new JavaMapAdapter(new HashMap<>());
+        for (int i = 0; i < size; i++) {
+            map.put(i, i);
+        }
+        Random random = new Random(0);
+        presentKeys = new Integer[BATCH];
+        missingKeys = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            presentKeys[i] = random.nextInt(size);
+            missingKeys[i] = size + random.nextInt(Integer.MAX_VALUE - size);
+        }
+        nextNewKey = -1;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object putNewThenRemove() {
+        Object last = null;
+        for (int i = 0; i < BATCH; i++) {
+            Integer key = nextNewKey--;
+            map.put(key, key);
+            last = map.remove(key);
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object getHit() {
+        Object last = null;
+        for (Integer key : presentKeys) {
+            last = map.get(key);
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object getMiss() {
+        Object last = null;
+        for (Integer key : missingKeys) {
+            last = map.get(key);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Object removeThenPut() {
+        Integer key = presentKeys[cursor++ & (BATCH - 1)];
+        Object removed = map.remove(key);
+        map.put(key, key);
+        return removed;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HashTableBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private interface MapAdapter {
+        Object put(Integer key, Integer value);
+
+        Object get(Integer key);
+
+        Object remove(Integer key);
+    }
+
+    private record TableAdapter(Map<Integer, Integer> map) implements MapAdapter {
+        @Override
+        public Object put(Integer key, Integer value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public Object get(Integer key) {
+            return map.get(key);
+        }
+
+        @Override
+        public Object remove(Integer key) {
+            return map.remove(key);
+        }
+    }
+
+    private record JavaMapAdapter(java.util.Map<Integer, Integer> map) implements MapAdapter {
+        @Override
+        public Object put(Integer key, Integer value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public Object get(Integer key) {
+            return map.get(key);
+        }
+
+        @Override
+        public Object remove(Integer key) {
+            return map.remove(key);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bobocode.cs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Prints an approximate memory footprint in bytes per entry of {@link IntObjectHashTable} and {@link LongLongHashTable}
+ * compared with boxed {@code HashTable<Integer, V>} and {@link HashMap}. Every table is filled with the same number of
+ * entries, and the footprint is a difference of used heap before and after the table is built. All tables are kept
+ * reachable until the end, so a previous table is never collected in the middle of a measurement. Values are shared
+ * across all tables, so only the table structure and boxed keys are measured.
+ * <p>
+ * Run it with a fixed heap and a single GC thread for stable numbers, e.g. {@code -Xms2g -Xmx2g -XX:+UseSerialGC}.
+ */
+public class HashTableFootprintReport {
+    private static final int ENTRIES = 1_000_000;
+    private static final String VALUE = "value";
+
+    private static final List<Object> RETAINED = new ArrayList<>();
+
+    public static void main(String[] args) {
+        report("IntObjectHashTable<String>", size -> {
+            IntObjectHashTable<String> table = new IntObjectHashTable<>();
+            for (int i = 0; i < size; i++) {
+                table.put(i, VALUE);
+            }
+            return table;
+        });
+        report("HashTable<Integer, String>", size -> {
+            HashTable<Integer, String> table = new HashTable<>();
+            for (int i = 0; i < size; i++) {
+                table.put(i, VALUE);
+            }
+            return table;
+        });
+        report("java.util.HashMap<Integer, String>", size -> {
+            HashMap<Integer, String> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(i, VALUE);
+            }
+            return map;
+        });
+        report("LongLongHashTable", size -> {
+            LongLongHashTable table = new LongLongHashTable();
+            for (int i = 0; i < size; i++) {
+                table.put(i, i);
+            }
+            return table;
+        });
+        report("java.util.HashMap<Long, Long>", size -> {
+            HashMap<Long, Long> map = new HashMap<>();
+            for (long i = 0; i < size; i++) {
+                map.put(i, i);
+            }
+            return map;
+        });
+    }
+
+    private static void report(String name, IntFunction<Object> factory) {
+        long before = usedMemory();
+        RETAINED.add(factory.apply(ENTRIES));
+        long after = usedMemory();
+        System.out.printf("%-36s %6.1f bytes per entry%n", name, (double) (after - before) / ENTRIES);
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bobocode.cs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JMH benchmark that shows the latency distribution of {@link HashTable#put(Object, Object)} while the table grows.
+ * Every iteration starts with a table that is filled right up to the resize threshold of a 2^24 buckets array, so the
+ * measured puts trigger a resize of a 12.5M entries table. {@link Mode#SampleTime} reports percentiles (p0.99,
+ * p0.999, p1.0): with a regular resize the max latency equals the time of the full rehash, while with an incremental
+ * resize it stays close to a regular put.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms8g", "-Xmx8g"})
+public class HashTableResizeLatencyBenchmark {
+    private static final int CAPACITY = 1 << 24;
+    private static final int PRELOADED = (int) (CAPACITY * 0.75f);
+
+    @Param({"false", "true"})
+    private boolean incrementalResize;
+
+    private HashTable<Integer, Integer> table;
+    private int nextKey;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        table = new HashTable<>(CAPACITY, incrementalResize);
+        for (int i = 0; i < PRELOADED; i++) {
+            table.put(i, i);
+        }
+        nextKey = PRELOADED;
+    }
+
+    @Benchmark
+    public Integer put() {
+        Integer key = nextKey++;
+        return table.put(key, key);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HashTableResizeLatencyBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
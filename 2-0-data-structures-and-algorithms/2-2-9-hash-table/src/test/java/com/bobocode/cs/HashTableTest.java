@@ -534,6 +534,103 @@ class HashTableTest {
 
     }
 
+    @Nested
+    @Order(7)
+    @DisplayName("7. Incremental resize Test")
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class IncrementalResizeTest {
+
+        private final HashTable<String, Integer> incrementalTable = new HashTable<>(8, true);
+
+        @Test
+        @Order(1)
+        @DisplayName("reaching the threshold allocates a new array and keeps the old one until it is migrated")
+        void resizeKeepsOldTable() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put("key" + i, i);
+            }
+
+            assertThat(getInternalTable(incrementalTable)).hasSize(16);
+            assertThat(getOldTable(incrementalTable)).hasSize(8);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("every operation migrates some buckets until the old array is released")
+        void operationsMigrateOldTable() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put("key" + i, i);
+            }
+
+            for (int i = 0; i < 8; i++) {
+                incrementalTable.get("key" + i);
+            }
+
+            assertThat(getOldTable(incrementalTable)).isNull();
+            for (int i = 0; i < 7; i++) {
+                assertThat(incrementalTable.get("key" + i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(3)
+        @DisplayName("get, put and remove see elements that are not migrated yet")
+        void operationsDuringMigration() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put("key" + i, i);
+            }
+
+            assertThat(incrementalTable.put("key0", 100)).isEqualTo(0);
+            assertThat(incrementalTable.remove("key6")).isEqualTo(6);
+            assertThat(incrementalTable.containsKey("key5")).isTrue();
+            assertThat(incrementalTable.containsValue(100)).isTrue();
+            assertThat(incrementalTable.size()).isEqualTo(6);
+        }
+
+        @Test
+        @Order(4)
+        @DisplayName("resizeTable completes the migration")
+        void resizeTableCompletesMigration() {
+            for (int i = 0; i < 7; i++) {
+                incrementalTable.put("key" + i, i);
+            }
+
+            incrementalTable.resizeTable(64);
+
+            assertThat(getOldTable(incrementalTable)).isNull();
+            assertThat(getInternalTable(incrementalTable)).hasSize(64);
+            for (int i = 0; i < 7; i++) {
+                assertThat(incrementalTable.get("key" + i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        @Order(5)
+        @DisplayName("incremental table behaves like java.util.HashMap")
+        void behavesLikeHashMap() {
+            var expected = new java.util.HashMap<String, Integer>();
+            var random = new java.util.Random(3);
+            for (int i = 0; i < 50_000; i++) {
+                var key = "key" + random.nextInt(10_000);
+                switch (random.nextInt(3)) {
+                    case 0 -> assertThat(incrementalTable.put(key, i)).isEqualTo(expected.put(key, i));
+                    case 1 -> assertThat(incrementalTable.remove(key)).isEqualTo(expected.remove(key));
+                    default -> assertThat(incrementalTable.get(key)).isEqualTo(expected.get(key));
+                }
+            }
+
+            assertThat(incrementalTable.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> assertThat(incrementalTable.get(key)).isEqualTo(value));
+        }
+
+        @SneakyThrows
+        private Object[] getOldTable(HashTable<?, ?> hashTable) {
+            var oldTableField = HashTable.class.getDeclaredField("oldTable");
+            oldTableField.setAccessible(true);
+            return (Object[]) oldTableField.get(hashTable);
+        }
+    }
+
     // Util methods
     @SneakyThrows
     private Object[] getInternalTable(HashTable<?, ?> hashTable) {
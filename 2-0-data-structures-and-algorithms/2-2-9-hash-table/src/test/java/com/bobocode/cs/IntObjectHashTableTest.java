@@ -0,0 +1,79 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntObjectHashTableTest {
+    private final IntObjectHashTable<String> table = new IntObjectHashTable<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(table.put(7, "seven")).isNull();
+        assertThat(table.put(7, "SEVEN")).isEqualTo("seven");
+
+        assertThat(table.get(7)).isEqualTo("SEVEN");
+        assertThat(table.get(8)).isNull();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void zeroAndNegativeKeys() {
+        table.put(0, "zero");
+        table.put(-1, "minus one");
+        table.put(Integer.MIN_VALUE, "min");
+
+        assertThat(table.get(0)).isEqualTo("zero");
+        assertThat(table.get(-1)).isEqualTo("minus one");
+        assertThat(table.get(Integer.MIN_VALUE)).isEqualTo("min");
+        assertThat(table.size()).isEqualTo(3);
+
+        assertThat(table.remove(0)).isEqualTo("zero");
+        assertThat(table.remove(0)).isNull();
+        assertThat(table.containsKey(0)).isFalse();
+        assertThat(table.size()).isEqualTo(2);
+    }
+
+    @Test
+    void nullValuesAreNotSupported() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> table.put(1, null));
+    }
+
+    @Test
+    void invalidCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntObjectHashTable<>(0));
+    }
+
+    @Test
+    void toStringContainsAllEntries() {
+        table.put(0, "a");
+        table.put(1, "b");
+
+        assertThat(table.toString()).startsWith("{0=a, ").contains("1=b").endsWith("}");
+    }
+
+    @Test
+    void behavesLikeJavaUtilHashMap() {
+        java.util.Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(4_000) - 2_000;
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(table.put(key, "v" + i)).isEqualTo(expected.put(key, "v" + i));
+                case 1 -> assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(table.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (int key = -2_000; key < 2_000; key++) {
+            assertThat(table.containsKey(key)).isEqualTo(expected.containsKey(key));
+        }
+    }
+}
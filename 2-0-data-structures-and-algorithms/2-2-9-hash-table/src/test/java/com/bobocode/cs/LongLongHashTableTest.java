@@ -0,0 +1,81 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongHashTableTest {
+    private final LongLongHashTable table = new LongLongHashTable(4, -1L);
+
+    @Test
+    void putAndGet() {
+        assertThat(table.put(10L, 100L)).isEqualTo(-1L);
+        assertThat(table.put(10L, 200L)).isEqualTo(100L);
+
+        assertThat(table.get(10L)).isEqualTo(200L);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void missingKeysReturnMissingValue() {
+        assertThat(table.missingValue()).isEqualTo(-1L);
+        assertThat(table.get(42L)).isEqualTo(-1L);
+        assertThat(table.remove(42L)).isEqualTo(-1L);
+        assertThat(new LongLongHashTable().get(42L)).isZero();
+    }
+
+    @Test
+    void missingValueCanBeStoredAsRealValue() {
+        table.put(5L, -1L);
+
+        assertThat(table.get(5L)).isEqualTo(-1L);
+        assertThat(table.containsKey(5L)).isTrue();
+        assertThat(table.containsKey(6L)).isFalse();
+    }
+
+    @Test
+    void zeroKey() {
+        assertThat(table.put(0L, 7L)).isEqualTo(-1L);
+        assertThat(table.put(0L, 8L)).isEqualTo(7L);
+
+        assertThat(table.get(0L)).isEqualTo(8L);
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.remove(0L)).isEqualTo(8L);
+        assertThat(table.containsKey(0L)).isFalse();
+        assertThat(table.isEmpty()).isTrue();
+    }
+
+    @Test
+    void keysThatDifferOnlyInHighBits() {
+        table.put(1L, 1L);
+        table.put(1L << 32, 2L);
+        table.put((1L << 32) | 1L, 3L);
+
+        assertThat(table.get(1L)).isEqualTo(1L);
+        assertThat(table.get(1L << 32)).isEqualTo(2L);
+        assertThat(table.get((1L << 32) | 1L)).isEqualTo(3L);
+    }
+
+    @Test
+    void behavesLikeJavaUtilHashMap() {
+        java.util.Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (long i = 0; i < 100_000; i++) {
+            long key = random.nextInt(4_000) * 0x1_0000_0001L;
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(table.put(key, i)).isEqualTo(orMissing(expected.put(key, i)));
+                case 1 -> assertThat(table.remove(key)).isEqualTo(orMissing(expected.remove(key)));
+                default -> assertThat(table.get(key)).isEqualTo(orMissing(expected.get(key)));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+    }
+
+    private static long orMissing(Long value) {
+        return value == null ? -1L : value;
+    }
+}
@@ -0,0 +1,123 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class OpenAddressingHashTableTest {
+
+    private Map<String, Integer> map = new OpenAddressingHashTable<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(map.put("madmax", 833)).isNull();
+        assertThat(map.put("leon", 886)).isNull();
+
+        assertThat(map.get("madmax")).isEqualTo(833);
+        assertThat(map.get("leon")).isEqualTo(886);
+        assertThat(map.get("johnny")).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putOverridesValue() {
+        map.put("madmax", 833);
+
+        assertThat(map.put("madmax", 100)).isEqualTo(833);
+
+        assertThat(map.get("madmax")).isEqualTo(100);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keysWithTheSameHashCode() {
+        Map<CollidingKey, Integer> collidingMap = new OpenAddressingHashTable<>();
+        for (int i = 0; i < 20; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+
+        collidingMap.remove(new CollidingKey(5));
+
+        assertThat(collidingMap.size()).isEqualTo(19);
+        assertThat(collidingMap.get(new CollidingKey(5))).isNull();
+        assertThat(collidingMap.get(new CollidingKey(19))).isEqualTo(19);
+    }
+
+    @Test
+    void containsKeyAndValue() {
+        map.put("altea", 553);
+
+        assertThat(map.containsKey("altea")).isTrue();
+        assertThat(map.containsKey("johnny")).isFalse();
+        assertThat(map.containsKey(null)).isFalse();
+        assertThat(map.containsValue(553)).isTrue();
+        assertThat(map.containsValue(554)).isFalse();
+    }
+
+    @Test
+    void remove() {
+        map.put("altea", 553);
+        map.put("johnny", 439);
+
+        assertThat(map.remove("altea")).isEqualTo(553);
+        assertThat(map.remove("altea")).isNull();
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get("johnny")).isEqualTo(439);
+    }
+
+    @Test
+    void isEmpty() {
+        assertThat(map.isEmpty()).isTrue();
+        map.put("altea", 553);
+        assertThat(map.isEmpty()).isFalse();
+    }
+
+    @Test
+    void behavesLikeJavaUtilHashMap() {
+        Map<Integer, Integer> table = new OpenAddressingHashTable<>(2, 0.9f);
+        java.util.Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(5_000);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(table.put(key, i)).isEqualTo(expected.put(key, i));
+                case 1 -> assertThat(table.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(table.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void putNullKey() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> map.put(null, 1));
+    }
+
+    @Test
+    void createTableWithWrongLoadFactor() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new OpenAddressingHashTable<>(8, 1.0f));
+    }
+
+    @Test
+    void toStringContainsAllEntries() {
+        map.put("leon", 886);
+
+        assertThat(map.toString()).isEqualTo("{leon=886}");
+    }
+
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.bobocode.cs;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +25,23 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Returns a sequential {@link Stream} over the list elements. It is based on {@link List#spliterator()}.
+     *
+     * @return a stream of elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel {@link Stream} over the list elements. The elements are split between threads by
+     * {@link List#spliterator()}, so implementations should override it with a spliterator that splits efficiently.
+     *
+     * @return a possibly parallel stream of elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,174 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link AsyncFileReader} reads whole files by path with {@link AsynchronousFileChannel}. A read does not block the
+ * calling thread: it returns a {@link CompletableFuture} that is completed by the channel's thread pool when the last
+ * byte is read.
+ * <p>
+ * Starting thousands of reads at once would open thousands of files and allocate all their buffers at the same time,
+ * so the reader limits the number of reads in progress. Reads above the limit wait in a queue, and every completed
+ * read starts the next one. The limiter never blocks a thread either, so a caller may submit any number of reads.
+ */
+public class AsyncFileReader {
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int maxConcurrentReads;
+    private final Queue<Runnable> pendingReads = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeReads = new AtomicInteger();
+
+    /**
+     * Creates a reader with a given limit of reads in progress.
+     *
+     * @param maxConcurrentReads max number of files that are read at the same time
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public AsyncFileReader(int maxConcurrentReads) {
+        if (maxConcurrentReads <= 0) {
+            throw new IllegalArgumentException("Max number of concurrent reads should be positive");
+        }
+        this.maxConcurrentReads = maxConcurrentReads;
+    }
+
+    /**
+     * Reads all bytes of a file. The future is completed with a buffer that is ready to be read (flipped), or
+     * exceptionally with a {@link RuntimeException} that wraps the cause if the file cannot be read.
+     *
+     * @param path a path to a file
+     * @return a future of file bytes
+     */
+    public CompletableFuture<ByteBuffer> readBytes(Path path) {
+        CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+        pendingReads.add(() -> startRead(path, result));
+        startPendingReads();
+        return result;
+    }
+
+    /**
+     * Reads a file and decodes it into a {@link String}. Unlike {@link FileReaders#readWholeFile(Path)}, line
+     * separators are kept as they are in the file.
+     *
+     * @param path    a path to a file
+     * @param charset a charset of the file
+     * @return a future of file content
+     */
+    public CompletableFuture<String> readString(Path path, Charset charset) {
+        return readBytes(path).thenApply(buffer -> charset.decode(buffer).toString());
+    }
+
+    /**
+     * Reads a UTF-8 file and decodes it into a {@link String}.
+     *
+     * @param path a path to a file
+     * @return a future of file content
+     */
+    public CompletableFuture<String> readString(Path path) {
+        return readString(path, StandardCharsets.UTF_8);
+    }
+
+    int activeReads() {
+        return activeReads.get();
+    }
+
+    /**
+     * Starts pending reads while there are free slots. A read that is added right after this method finds the queue
+     * empty is started either by the thread that added it or by a read that completes afterwards, since both of them
+     * call this method after changing the state.
+     */
+    private void startPendingReads() {
+        while (!pendingReads.isEmpty()) {
+            int active = activeReads.get();
+            if (active >= maxConcurrentReads) {
+                return;
+            }
+            if (activeReads.compareAndSet(active, active + 1)) {
+                Runnable read = pendingReads.poll();
+                if (read == null) {
+                    activeReads.decrementAndGet();
+                } else {
+                    read.run();
+                }
+            }
+        }
+    }
+
+    private void startRead(Path path, CompletableFuture<ByteBuffer> result) {
+        AsynchronousFileChannel channel = null;
+        try {
+            channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException("File is too large: " + size + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            channel.read(buffer, 0, buffer, new ReadHandler(path, channel, result));
+        } catch (Throwable e) {
+            // the read failed in the thread that started it, so the loop in startPendingReads() starts the next one
+            closeQuietly(channel);
+            activeReads.decrementAndGet();
+            result.completeExceptionally(new RuntimeException("Cannot read file: " + path, e));
+        }
+    }
+
+    private void finishRead(AsynchronousFileChannel channel, Runnable completion) {
+        // all bytes are read already, so a failure to close does not fail the read
+        closeQuietly(channel);
+        activeReads.decrementAndGet();
+        completion.run();
+        startPendingReads();
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // the channel is not used anymore, and the read result does not depend on closing it
+        }
+    }
+
+    /**
+     * Continues reading from the position after the last read byte until the buffer is full or the file ends, then
+     * closes the channel, releases the slot and completes the future.
+     */
+    private class ReadHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final Path path;
+        private final AsynchronousFileChannel channel;
+        private final CompletableFuture<ByteBuffer> result;
+
+        ReadHandler(Path path, AsynchronousFileChannel channel, CompletableFuture<ByteBuffer> result) {
+            this.path = path;
+            this.channel = channel;
+            this.result = result;
+        }
+
+        @Override
+        public void completed(Integer bytesRead, ByteBuffer buffer) {
+            if (bytesRead != -1 && buffer.hasRemaining()) {
+                channel.read(buffer, buffer.position(), buffer, this);
+            } else {
+                finishRead(channel, () -> result.complete(buffer.flip()));
+            }
+        }
+
+        @Override
+        public void failed(Throwable e, ByteBuffer buffer) {
+            RuntimeException exception = new RuntimeException("Cannot read file: " + path, e);
+            finishRead(channel, () -> result.completeExceptionally(exception));
+        }
+    }
+}
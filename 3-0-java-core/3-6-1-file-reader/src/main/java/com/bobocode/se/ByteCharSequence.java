@@ -0,0 +1,69 @@
+package com.bobocode.se;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link ByteCharSequence} is a {@link CharSequence} view over a range of bytes of a {@link MappedTextFile}. It does
+ * not copy the bytes: every {@link #charAt(int)} reads the mapped file. A byte is read as one character
+ * (ISO-8859-1), which is exact for ASCII text. Use {@link #toString(Charset)} to decode the bytes in another charset,
+ * e.g. UTF-8.
+ */
+public class ByteCharSequence implements CharSequence {
+    private final MappedTextFile file;
+    private final long offset;
+    private final int length;
+
+    ByteCharSequence(MappedTextFile file, long offset, int length) {
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the position of the first byte of this sequence in the file.
+     *
+     * @return offset in bytes
+     */
+    public long offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return (char) (file.byteAtUnchecked(offset + index) & 0xFF);
+    }
+
+    @Override
+    public ByteCharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new ByteCharSequence(file, offset + start, end - start);
+    }
+
+    /**
+     * Copies the bytes of this sequence and decodes them with the given charset.
+     *
+     * @param charset a charset of the file
+     * @return decoded string
+     */
+    public String toString(Charset charset) {
+        return new String(file.bytes(offset, length), charset);
+    }
+
+    /**
+     * Copies the bytes of this sequence into a string, one byte per character.
+     *
+     * @return a string of this sequence characters
+     */
+    @Override
+    public String toString() {
+        return toString(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -4,17 +4,28 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by a classpath file name or
+ * by a filesystem path. Path-based reads can also be performed asynchronously, see {@link AsyncFileReader}.
+ * <p>
+ * A whole-file {@link String} needs a few times more heap than the file size and cannot hold more than 2G characters,
+ * so large files should be read with {@link #mapFile(Path)} or {@link #readChunks(Path, int, Consumer)} instead.
  */
 public class FileReaders {
     private static final String DELIMITER = "\n";
+    private static final int MAX_CONCURRENT_READS = 64;
+    private static final AsyncFileReader ASYNC_READER = new AsyncFileReader(MAX_CONCURRENT_READS);
 
     /**
      * Returns a {@link String} that contains whole text from the file specified by name.
@@ -23,14 +34,91 @@ public class FileReaders {
      * @return string that holds whole file content
      */
     public static String readWholeFile(String fileName) {
+        URI resource = getResource(fileName);
+        return readWholeFile(Paths.get(resource));
+    }
+
+    /**
+     * Returns a {@link String} that contains whole text from the file specified by a filesystem path. Lines are joined
+     * with {@code \n} regardless of line separators in the file.
+     *
+     * @param path a path to a text file
+     * @return string that holds whole file content
+     */
+    public static String readWholeFile(Path path) {
+        try (Stream<String> lines = Files.lines(path)) {
+            return lines.collect(Collectors.joining(DELIMITER));
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read file: " + path, e);
+        }
+    }
+
+    /**
+     * Reads a UTF-8 file specified by a filesystem path without blocking the calling thread. Reads of all callers
+     * share one {@link AsyncFileReader}, so at most 64 files are read at the same time. Use a separate
+     * {@link AsyncFileReader} to choose another limit.
+     *
+     * @param path a path to a text file
+     * @return a future of file content
+     */
+    public static CompletableFuture<String> readWholeFileAsync(Path path) {
+        return ASYNC_READER.readString(path);
+    }
+
+    /**
+     * Reads all bytes of a file specified by a filesystem path without blocking the calling thread.
+     *
+     * @param path a path to a file
+     * @return a future of file bytes
+     * @see #readWholeFileAsync(Path)
+     */
+    public static CompletableFuture<ByteBuffer> readAllBytesAsync(Path path) {
+        return ASYNC_READER.readBytes(path);
+    }
+
+    /**
+     * Maps a file into memory. The returned {@link MappedTextFile} reads the file lazily and does not copy it into
+     * the heap, so it works for files of any size.
+     *
+     * @param path a path to a file
+     * @return a mapped file
+     */
+    public static MappedTextFile mapFile(Path path) {
         try {
-            URI resource = getResource(fileName);
-            try (Stream<String> lines = Files.lines(Paths.get(resource))) {
-                return lines.collect(Collectors.joining(DELIMITER));
+            return MappedTextFile.map(path);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot map file: " + path, e);
+        }
+    }
+
+    /**
+     * Reads a file sequentially in chunks of up to {@code bufferSize} bytes. Every chunk is passed to the consumer as
+     * a buffer that is ready to be read (flipped). The same buffer is reused for all chunks, so the consumer should
+     * not keep a reference to it after it returns.
+     *
+     * @param path          a path to a file
+     * @param bufferSize    max chunk size in bytes
+     * @param chunkConsumer a consumer of chunks
+     * @return total number of bytes read
+     * @throws IllegalArgumentException if buffer size is not positive
+     */
+    public static long readChunks(Path path, int bufferSize, Consumer<ByteBuffer> chunkConsumer) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size should be positive");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        long total = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                total += buffer.remaining();
+                chunkConsumer.accept(buffer);
+                buffer.clear();
             }
         } catch (IOException e) {
-            throw new RuntimeException("Cannot read file: " + fileName, e);
+            throw new RuntimeException("Cannot read file: " + path, e);
         }
+        return total;
     }
 
     private static URI getResource(String fileName) {
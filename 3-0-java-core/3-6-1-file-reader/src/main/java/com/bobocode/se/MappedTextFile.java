@@ -0,0 +1,185 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link MappedTextFile} is a read-only view of a file that is mapped into memory with {@link FileChannel#map}. The
+ * file content is not copied into the heap: the operating system loads pages of the file on access and can evict them
+ * under memory pressure, so the file may be much larger than the heap.
+ * <p>
+ * A single {@link MappedByteBuffer} cannot exceed 2GB, so the file is mapped as a list of regions. A region size is a
+ * power of two, which allows to find a byte by its position with a shift and a mask. {@link #lines()} and
+ * {@link #asCharSequence()} hide region boundaries, so a line can span two regions.
+ * <p>
+ * The mapping stays valid after the file channel is closed. It is released when the buffers are garbage collected.
+ */
+public class MappedTextFile {
+    static final int DEFAULT_REGION_SHIFT = 30;
+
+    private final MappedByteBuffer[] regions;
+    private final int regionShift;
+    private final long regionMask;
+    private final long size;
+
+    private MappedTextFile(MappedByteBuffer[] regions, int regionShift, long size) {
+        this.regions = regions;
+        this.regionShift = regionShift;
+        this.regionMask = (1L << regionShift) - 1;
+        this.size = size;
+    }
+
+    /**
+     * Maps a file into memory with regions of 1GB.
+     *
+     * @param path a path to a file
+     * @return mapped file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MappedTextFile map(Path path) throws IOException {
+        return map(path, DEFAULT_REGION_SHIFT);
+    }
+
+    /**
+     * Maps a file into memory with regions of {@code 2^regionShift} bytes. Small regions are useful in tests, where
+     * they allow to check lines that cross region boundaries without creating huge files.
+     */
+    static MappedTextFile map(Path path, int regionShift) throws IOException {
+        if (regionShift < 1 || regionShift > DEFAULT_REGION_SHIFT) {
+            throw new IllegalArgumentException("Region shift should be in range [1, " + DEFAULT_REGION_SHIFT + "]");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long regionSize = 1L << regionShift;
+            MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((size + regionSize - 1) >>> regionShift)];
+            for (int i = 0; i < regions.length; i++) {
+                long regionOffset = (long) i << regionShift;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, regionOffset,
+                        Math.min(regionSize, size - regionOffset));
+            }
+            return new MappedTextFile(regions, regionShift, size);
+        }
+    }
+
+    /**
+     * Returns the file size in bytes.
+     *
+     * @return file size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns a byte at the given position of the file.
+     *
+     * @param position a position in bytes
+     * @return a byte value
+     * @throws IndexOutOfBoundsException if position is negative or not less than the file size
+     */
+    public byte byteAt(long position) {
+        Objects.checkIndex(position, size);
+        return byteAtUnchecked(position);
+    }
+
+    /**
+     * Returns read-only {@link ByteBuffer} views of the file regions in the file order. Every buffer has its own
+     * position and limit, so callers can read them independently.
+     *
+     * @return a list of region buffers
+     */
+    public List<ByteBuffer> regions() {
+        return Arrays.stream(regions)
+                .map(ByteBuffer::asReadOnlyBuffer)
+                .toList();
+    }
+
+    /**
+     * Returns the whole file as a {@link CharSequence}, one byte per character. It allows to run e.g. a
+     * {@link java.util.regex.Pattern} over the file without reading it into a {@link String}.
+     *
+     * @return a char sequence view of the file
+     * @throws UnsupportedOperationException if the file is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    public ByteCharSequence asCharSequence() {
+        if (size > Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException("File is too large for a CharSequence: " + size + " bytes");
+        }
+        return new ByteCharSequence(this, 0, (int) size);
+    }
+
+    /**
+     * Returns a lazy stream of file lines. Lines are separated by {@code \n}, {@code \r\n} or {@code \r}, the same
+     * way as in {@link java.io.BufferedReader#readLine()}, and line separators are not included. Every line is a view
+     * over the mapped bytes, so the stream does not copy the file. Lines are found only as the stream is consumed.
+     *
+     * @return a stream of lines
+     * @throws UnsupportedOperationException on access to a line that is longer than {@link Integer#MAX_VALUE} bytes
+     */
+    public Stream<ByteCharSequence> lines() {
+        return StreamSupport.stream(new LineSpliterator(), false);
+    }
+
+    byte byteAtUnchecked(long position) {
+        return regions[(int) (position >>> regionShift)].get((int) (position & regionMask));
+    }
+
+    byte[] bytes(long offset, int length) {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long position = offset + copied;
+            int regionPosition = (int) (position & regionMask);
+            MappedByteBuffer region = regions[(int) (position >>> regionShift)];
+            int count = Math.min(length - copied, region.limit() - regionPosition);
+            region.get(regionPosition, bytes, copied, count);
+            copied += count;
+        }
+        return bytes;
+    }
+
+    private class LineSpliterator extends Spliterators.AbstractSpliterator<ByteCharSequence> {
+        private long position;
+
+        LineSpliterator() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ByteCharSequence> action) {
+            if (position >= size) {
+                return false;
+            }
+            long start = position;
+            long end = start;
+            while (end < size && !isLineSeparator(byteAtUnchecked(end))) {
+                end++;
+            }
+            position = end + 1;
+            if (end < size && byteAtUnchecked(end) == '\r' && position < size && byteAtUnchecked(position) == '\n') {
+                position++;
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new UnsupportedOperationException("Line at " + start + " is too long: " + (end - start));
+            }
+            action.accept(new ByteCharSequence(MappedTextFile.this, start, (int) (end - start)));
+            return true;
+        }
+
+        private boolean isLineSeparator(byte b) {
+            return b == '\n' || b == '\r';
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.bobocode.se;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A JMH benchmark that reads a directory of generated files (2000 files of 64KB by default) with
+ * {@link AsyncFileReader} at different concurrency limits, and sequentially with {@link Files#readAllBytes(Path)} in
+ * one thread. The score is the time to read all files; divide the total size by it to get bandwidth.
+ * <p>
+ * Generated files are likely to stay in the page cache, so the benchmark shows the cost of the read path rather than
+ * of the disk. Drop the page cache between iterations (e.g. {@code echo 3 > /proc/sys/vm/drop_caches}) to measure
+ * disk bandwidth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncFileReadBenchmark {
+    @Param({"2000"})
+    private int files;
+
+    @Param({"65536"})
+    private int fileSize;
+
+    @Param({"1", "16", "64", "256"})
+    private int maxConcurrentReads;
+
+    private Path directory;
+    private Path[] paths;
+    private AsyncFileReader reader;
+
+    @Setup(Level.Trial)
+    public void generateFiles() throws IOException {
+        directory = Files.createTempDirectory("async-file-read-benchmark");
+        paths = new Path[files];
+        byte[] content = new byte[fileSize];
+        for (int i = 0; i < files; i++) {
+            content[i % fileSize] = (byte) i;
+            paths[i] = Files.write(directory.resolve(i + ".bin"), content);
+        }
+        reader = new AsyncFileReader(maxConcurrentReads);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long asyncReads() {
+        List<CompletableFuture<ByteBuffer>> reads = new ArrayList<>(paths.length);
+        for (Path path : paths) {
+            reads.add(reader.readBytes(path));
+        }
+        long total = 0;
+        for (CompletableFuture<ByteBuffer> read : reads) {
+            total += read.join().remaining();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long sequentialReads() throws IOException {
+        long total = 0;
+        for (Path path : paths) {
+            total += Files.readAllBytes(path).length;
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AsyncFileReadBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncFileReaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReadString() throws Exception {
+        Path path = Files.writeString(directory.resolve("simple.txt"), "Hello!\r\nIt's a test file.\n");
+
+        String content = new AsyncFileReader(1).readString(path).get(10, TimeUnit.SECONDS);
+
+        assertEquals("Hello!\r\nIt's a test file.\n", content);
+    }
+
+    @Test
+    void testReadBytesOfEmptyFile() throws Exception {
+        Path path = Files.createFile(directory.resolve("empty.txt"));
+
+        ByteBuffer content = new AsyncFileReader(1).readBytes(path).get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, content.remaining());
+    }
+
+    @Test
+    void testReadBytesOfMissingFile() {
+        CompletableFuture<ByteBuffer> content = new AsyncFileReader(1).readBytes(directory.resolve("missing.txt"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> content.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RuntimeException.class, exception.getCause());
+    }
+
+    @Test
+    void testManyFilesWithLimitedConcurrency() throws Exception {
+        AsyncFileReader reader = new AsyncFileReader(4);
+        List<CompletableFuture<String>> contents = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Path path = Files.writeString(directory.resolve(i + ".txt"), "file " + i + "\n".repeat(i));
+            contents.add(reader.readString(path));
+            assertTrue(reader.activeReads() <= 4);
+        }
+        contents.add(reader.readString(directory.resolve("missing.txt")));
+
+        CompletableFuture.allOf(contents.toArray(CompletableFuture[]::new)).exceptionally(e -> null)
+                .get(30, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 500; i++) {
+            assertEquals("file " + i + "\n".repeat(i), contents.get(i).get());
+        }
+        assertTrue(contents.get(500).isCompletedExceptionally());
+        assertEquals(0, reader.activeReads());
+    }
+
+    @Test
+    void testFailedReadsReleaseSlots() throws Exception {
+        AsyncFileReader reader = new AsyncFileReader(1);
+        Path path = Files.writeString(directory.resolve("simple.txt"), "Hello!");
+        List<CompletableFuture<ByteBuffer>> failures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            failures.add(reader.readBytes(directory));
+            failures.add(reader.readBytes(directory.resolve("missing.txt")));
+        }
+
+        String content = reader.readString(path).get(10, TimeUnit.SECONDS);
+
+        assertEquals("Hello!", content);
+        for (CompletableFuture<ByteBuffer> failure : failures) {
+            assertThrows(ExecutionException.class, () -> failure.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, reader.activeReads());
+    }
+
+    @Test
+    void testInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncFileReader(0));
+    }
+
+    @Test
+    void testFileReadersReadWholeFileAsync() throws Exception {
+        Path path = Files.writeString(directory.resolve("lines.txt"), "Hey!\n\nHi!");
+
+        assertEquals("Hey!\n\nHi!", FileReaders.readWholeFileAsync(path).get(10, TimeUnit.SECONDS));
+        assertEquals(9, FileReaders.readAllBytesAsync(path).get(10, TimeUnit.SECONDS).remaining());
+    }
+
+    @Test
+    void testFileReadersReadWholeFileByPath() throws IOException {
+        Path path = Files.writeString(directory.resolve("lines.txt"), "Hey!\r\n\r\nHi!\n");
+
+        assertEquals("Hey!\n\nHi!", FileReaders.readWholeFile(path));
+    }
+}
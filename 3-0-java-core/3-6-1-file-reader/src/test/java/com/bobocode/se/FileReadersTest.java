@@ -1,8 +1,18 @@
 package com.bobocode.se;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileReadersTest {
 
@@ -31,4 +41,37 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testReadChunks(@TempDir Path directory) throws IOException {
+        Path path = Files.writeString(directory.resolve("chunks.txt"), "Hello!\nIt's a test file.");
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        long total = FileReaders.readChunks(path, 5, chunk -> {
+            chunkSizes.add(chunk.remaining());
+            while (chunk.hasRemaining()) {
+                content.write(chunk.get());
+            }
+        });
+
+        assertEquals(24, total);
+        assertEquals("Hello!\nIt's a test file.", content.toString());
+        assertTrue(chunkSizes.stream().allMatch(size -> size <= 5));
+    }
+
+    @Test
+    void testReadChunksWithInvalidBufferSize(@TempDir Path directory) {
+        assertThrows(IllegalArgumentException.class, () -> FileReaders.readChunks(directory, 0, chunk -> {
+        }));
+    }
+
+    @Test
+    void testMapFile(@TempDir Path directory) throws IOException {
+        Path path = Files.writeString(directory.resolve("lines.txt"), "Hey!\n\nWhat's up?\n\nHi!");
+
+        List<String> lines = FileReaders.mapFile(path).lines().map(CharSequence::toString).toList();
+
+        assertEquals(List.of("Hey!", "", "What's up?", "", "Hi!"), lines);
+    }
 }
@@ -0,0 +1,117 @@
+package com.bobocode.se;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A JMH benchmark that counts lines of a generated text file (4GB by default) in three ways: with
+ * {@link Files#lines(Path)}, which decodes every line into a {@link String}, with {@link MappedTextFile#lines()}, and
+ * by scanning chunks of {@link FileReaders#readChunks(Path, int, java.util.function.Consumer)} for line separators.
+ * {@link FileReaders#readWholeFile(String)} is not measured, because it cannot hold a file larger than 2GB.
+ * <p>
+ * The heap is deliberately small (512MB), so it shows that none of the measured ways needs heap proportional to the
+ * file size. Every measurement reads the whole file once; the first one may be slower if the file is not in the page
+ * cache yet. The file is deleted after the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms512m", "-Xmx512m"})
+public class LargeFileReadBenchmark {
+    private static final String LINE = "The quick brown fox jumps over the lazy dog, line number ";
+
+    @Param({"4294967296"})
+    private long fileSize;
+
+    @Param({"65536"})
+    private int bufferSize;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void generateFile() throws IOException {
+        file = Files.createTempFile("large-file-read-benchmark", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            long written = 0;
+            for (long i = 0; written < fileSize; i++) {
+                String line = LINE + i + '\n';
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long filesLines() throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.count();
+        }
+    }
+
+    @Benchmark
+    public long mappedLines() {
+        return FileReaders.mapFile(file).lines().count();
+    }
+
+    @Benchmark
+    public long chunkedLineSeparators() {
+        long[] count = {0};
+        FileReaders.readChunks(file, bufferSize, chunk -> {
+            for (int i = chunk.position(); i < chunk.limit(); i++) {
+                if (chunk.get(i) == '\n') {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public long mappedRegionLineSeparators() {
+        long count = 0;
+        for (ByteBuffer region : FileReaders.mapFile(file).regions()) {
+            for (int i = region.position(); i < region.limit(); i++) {
+                if (region.get(i) == '\n') {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LargeFileReadBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
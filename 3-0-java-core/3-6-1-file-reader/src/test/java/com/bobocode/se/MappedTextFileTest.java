@@ -0,0 +1,107 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedTextFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLinesOnEmptyFile() throws IOException {
+        MappedTextFile file = MappedTextFile.map(write(""));
+
+        assertEquals(0, file.size());
+        assertEquals(0, file.lines().count());
+        assertEquals(List.of(), file.regions());
+    }
+
+    @Test
+    void testLinesWithDifferentSeparators() throws IOException {
+        MappedTextFile file = MappedTextFile.map(write("Hey!\n\r\nWhat's up?\rHi!\n"));
+
+        List<String> lines = file.lines().map(CharSequence::toString).toList();
+
+        assertEquals(List.of("Hey!", "", "What's up?", "Hi!"), lines);
+    }
+
+    @Test
+    void testLinesMatchBufferedReaderAcrossRegionBoundaries() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("line ").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        Path path = write(text.toString());
+        MappedTextFile file = MappedTextFile.map(path, 4);
+
+        List<String> lines = file.lines().map(CharSequence::toString).toList();
+
+        assertEquals(Files.readAllLines(path), lines);
+        assertTrue(file.regions().size() > 1);
+    }
+
+    @Test
+    void testLineToStringDecodesCharset() throws IOException {
+        MappedTextFile file = MappedTextFile.map(write("Привіт\nсвіт"), 2);
+
+        List<String> lines = file.lines().map(line -> line.toString(StandardCharsets.UTF_8)).toList();
+
+        assertEquals(List.of("Привіт", "світ"), lines);
+    }
+
+    @Test
+    void testAsCharSequenceAllowsRegex() throws IOException {
+        MappedTextFile file = MappedTextFile.map(write("id=12, id=345, id=6"), 3);
+        Matcher matcher = Pattern.compile("id=(\\d+)").matcher(file.asCharSequence());
+
+        StringBuilder ids = new StringBuilder();
+        while (matcher.find()) {
+            ids.append(matcher.group(1)).append(' ');
+        }
+
+        assertEquals("12 345 6 ", ids.toString());
+    }
+
+    @Test
+    void testSubSequence() throws IOException {
+        ByteCharSequence text = MappedTextFile.map(write("Hello, world"), 2).asCharSequence();
+
+        ByteCharSequence world = text.subSequence(7, 12);
+
+        assertEquals("world", world.toString());
+        assertEquals(7, world.offset());
+        assertEquals('w', world.charAt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> world.charAt(5));
+    }
+
+    @Test
+    void testRegionsCoverTheFile() throws IOException {
+        MappedTextFile file = MappedTextFile.map(write("0123456789"), 2);
+
+        List<ByteBuffer> regions = file.regions();
+
+        assertEquals(3, regions.size());
+        assertEquals(4, regions.get(0).remaining());
+        assertEquals(2, regions.get(2).remaining());
+        assertTrue(regions.get(0).isReadOnly());
+        assertEquals('9', file.byteAt(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> file.byteAt(10));
+    }
+
+    private Path write(String text) throws IOException {
+        return Files.writeString(directory.resolve("file.txt"), text);
+    }
+}
@@ -0,0 +1,423 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link CharacterHistogram} keeps a number of occurrences of every {@code char} in a primitive {@code long[65536]}
+ * array indexed by the character itself, so counting and lookups neither box characters nor hash them.
+ * <p>
+ * {@link #count(Path, ForkJoinPool)} builds a histogram of a UTF-8 text file in a single pass. The file is split into
+ * byte ranges that start right after a line separator, so no character is cut in half. Every range is memory-mapped
+ * and decoded by a separate {@link ForkJoinTask} into its own histogram, and the histograms are merged as the tasks
+ * join. Characters are counted the same way as in {@link String#chars()}: a character outside the Basic Multilingual
+ * Plane counts as two surrogate {@code char}s. Line separators ({@code \n} and {@code \r}) are not counted.
+ * <p>
+ * A dense array takes 512KB, which is too much to keep per file for thousands of small files, so a histogram can be
+ * compacted into a sparse form that stores only counted characters in two sorted parallel arrays. A sparse histogram
+ * is read-only.
+ */
+public class CharacterHistogram {
+    static final int CHARACTERS = 1 << 16;
+    private static final long MIN_RANGE_SIZE = 1 << 20;
+    private static final long MAX_RANGE_SIZE = 1 << 30;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int BOUNDARY_SEARCH_LIMIT = 1 << 20;
+
+    private final long[] counts;
+    private final char[] characters;
+    private char[] touched;
+    private int touchedCount;
+    private boolean trackingMostFrequent;
+    private int excludedCharacter = -1;
+    private int mostFrequent;
+
+    CharacterHistogram() {
+        this(new long[CHARACTERS]);
+    }
+
+    private CharacterHistogram(long[] counts) {
+        this(counts, null);
+    }
+
+    /**
+     * Creates a sparse histogram if characters are given, where {@code counts[i]} is a count of
+     * {@code characters[i]}, or a dense one otherwise.
+     */
+    private CharacterHistogram(long[] counts, char[] characters) {
+        this.counts = counts;
+        this.characters = characters;
+    }
+
+    /**
+     * Counts characters of a UTF-8 file in parallel.
+     *
+     * @param path a path to a text file
+     * @param pool a pool that runs counting tasks
+     * @return a histogram of file characters
+     * @throws FileStatsException if the file cannot be read or it is not a valid UTF-8 text
+     */
+    public static CharacterHistogram count(Path path, ForkJoinPool pool) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return count(channel, channel.size(), pool);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file: " + path, e);
+        }
+    }
+
+    /**
+     * Counts characters of the first {@code size} bytes of a file in parallel. The size should be at a character
+     * boundary.
+     */
+    static CharacterHistogram count(FileChannel channel, long size, ForkJoinPool pool) throws IOException {
+        long rangeSize = Math.max(size / (pool.getParallelism() * TASKS_PER_THREAD) + 1, MIN_RANGE_SIZE);
+        List<Long> boundaries = splitAtLineBoundaries(channel, size, rangeSize);
+        return pool.invoke(new CountTask(channel, boundaries, 0, boundaries.size() - 1, bytes -> {
+        }));
+    }
+
+    /**
+     * Counts characters of the first {@code size} bytes of a file in ranges of about {@code rangeSize} bytes. It
+     * should be called from a {@link ForkJoinTask}, since it forks a task per range into the current pool.
+     */
+    static CharacterHistogram countInRanges(FileChannel channel, long size, long rangeSize,
+                                            LongConsumer rangeListener) throws IOException {
+        List<Long> boundaries = splitAtLineBoundaries(channel, size, rangeSize);
+        return new CountTask(channel, boundaries, 0, boundaries.size() - 1, rangeListener).invoke();
+    }
+
+    /**
+     * Returns a number of occurrences of a character.
+     *
+     * @param character a character
+     * @return a number of occurrences
+     */
+    public long count(char character) {
+        if (characters == null) {
+            return counts[character];
+        }
+        int index = Arrays.binarySearch(characters, character);
+        return index >= 0 ? counts[index] : 0;
+    }
+
+    /**
+     * Returns a total number of counted characters.
+     *
+     * @return a sum of all counts
+     */
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the character with the greatest count. If several characters have the same count, the smallest of them
+     * is returned.
+     *
+     * @return the most frequent character
+     * @throws NoSuchElementException if no characters are counted
+     */
+    public char mostFrequent() {
+        int mostFrequent = trackingMostFrequent ? this.mostFrequent : findMostFrequent();
+        if (counts.length == 0 || counts[mostFrequent] == 0) {
+            throw new NoSuchElementException("No characters are counted");
+        }
+        return characters == null ? (char) mostFrequent : characters[mostFrequent];
+    }
+
+    /**
+     * Returns a copy of this histogram without a given character.
+     *
+     * @param character a character to exclude
+     * @return a new histogram
+     */
+    public CharacterHistogram without(char character) {
+        long[] copy = counts.clone();
+        int index = characters == null ? character : Arrays.binarySearch(characters, character);
+        if (index >= 0) {
+            copy[index] = 0;
+        }
+        return new CharacterHistogram(copy, characters);
+    }
+
+    /**
+     * Returns a sparse copy of this histogram that stores only characters with non-zero counts.
+     *
+     * @return a sparse histogram
+     */
+    public CharacterHistogram compact() {
+        if (characters != null) {
+            return this;
+        }
+        int distinct = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                distinct++;
+            }
+        }
+        char[] sparseCharacters = new char[distinct];
+        long[] sparseCounts = new long[distinct];
+        for (int c = 0, i = 0; c < CHARACTERS; c++) {
+            if (counts[c] != 0) {
+                sparseCharacters[i] = (char) c;
+                sparseCounts[i++] = counts[c];
+            }
+        }
+        return new CharacterHistogram(sparseCounts, sparseCharacters);
+    }
+
+    /**
+     * Starts recording characters that are counted for the first time, so {@link #drainTouched()} can compact and
+     * reset this histogram without scanning all 65536 counts.
+     */
+    void recordTouched() {
+        touched = new char[CHARACTERS];
+    }
+
+    /**
+     * Returns a sparse copy of the characters counted since the previous drain and resets their counts to 0. It allows
+     * to reuse one dense histogram for many small files.
+     */
+    CharacterHistogram drainTouched() {
+        char[] sparseCharacters = Arrays.copyOf(touched, touchedCount);
+        Arrays.sort(sparseCharacters);
+        long[] sparseCounts = new long[touchedCount];
+        for (int i = 0; i < sparseCharacters.length; i++) {
+            sparseCounts[i] = counts[sparseCharacters[i]];
+            counts[sparseCharacters[i]] = 0;
+        }
+        touchedCount = 0;
+        return new CharacterHistogram(sparseCounts, sparseCharacters);
+    }
+
+    /**
+     * Switches this histogram to a mode for counting appended text. The histogram stops counting the excluded
+     * character and keeps the most frequent character up to date on every increment, so {@link #mostFrequent()}
+     * takes O(1). Counts only grow, so a character becomes the most frequent only at the moment it is incremented.
+     */
+    void trackMostFrequent(char excludedCharacter) {
+        counts[excludedCharacter] = 0;
+        this.excludedCharacter = excludedCharacter;
+        this.mostFrequent = findMostFrequent();
+        this.trackingMostFrequent = true;
+    }
+
+    void add(CharacterHistogram other) {
+        if (other.characters != null) {
+            for (int i = 0; i < other.characters.length; i++) {
+                counts[other.characters[i]] += other.counts[i];
+            }
+        } else {
+            for (int c = 0; c < CHARACTERS; c++) {
+                counts[c] += other.counts[c];
+            }
+        }
+    }
+
+    /**
+     * Maps bytes {@code [start, end)} of a file and counts them. Both ends should be at character boundaries.
+     */
+    void countRange(FileChannel channel, long start, long end) {
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            countUtf8(buffer, start);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot map bytes [" + start + ", " + end + ")", e);
+        }
+    }
+
+    /**
+     * Counts bytes {@code [start, end)} of a file in the current thread, mapping at most {@code chunkSize} bytes, but
+     * not more than 1GB, at a time. Both ends should be at character boundaries, and every inner chunk boundary is
+     * moved to a line or character boundary like in {@link #splitAtLineBoundaries(FileChannel, long, long)}.
+     */
+    void countInChunks(FileChannel channel, long start, long end, long chunkSize) throws IOException {
+        chunkSize = Math.min(chunkSize, MAX_RANGE_SIZE);
+        while (start < end) {
+            long chunkEnd = end - start <= chunkSize ? end : nextBoundary(channel, start + chunkSize, end);
+            countRange(channel, start, chunkEnd);
+            start = chunkEnd;
+        }
+    }
+
+    /**
+     * Decodes UTF-8 bytes of a buffer from its position to its limit and counts the decoded characters. The buffer
+     * should start and end at character boundaries. Overlong forms, encoded surrogates and code points above
+     * U+10FFFF are rejected like {@link java.nio.charset.CharsetDecoder} does.
+     */
+    void countUtf8(ByteBuffer buffer, long offset) {
+        int limit = buffer.limit();
+        int i = buffer.position();
+        while (i < limit) {
+            int b = buffer.get(i);
+            if (b >= 0) {
+                if (b != '\n' && b != '\r') {
+                    increment(b);
+                }
+                i++;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < limit) {
+                int character = ((b & 0x1F) << 6) | continuation(buffer, i + 1, offset);
+                if (character < 0x80) {
+                    throw malformedInput(offset + i);
+                }
+                increment(character);
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < limit) {
+                int character = ((b & 0x0F) << 12) | (continuation(buffer, i + 1, offset) << 6)
+                        | continuation(buffer, i + 2, offset);
+                if (character < 0x800 || Character.isSurrogate((char) character)) {
+                    throw malformedInput(offset + i);
+                }
+                increment(character);
+                i += 3;
+            } else if ((b & 0xF8) == 0xF0 && i + 3 < limit) {
+                int codePoint = ((b & 0x07) << 18) | (continuation(buffer, i + 1, offset) << 12)
+                        | (continuation(buffer, i + 2, offset) << 6) | continuation(buffer, i + 3, offset);
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                    throw malformedInput(offset + i);
+                }
+                increment(Character.highSurrogate(codePoint));
+                increment(Character.lowSurrogate(codePoint));
+                i += 4;
+            } else {
+                throw malformedInput(offset + i);
+            }
+        }
+    }
+
+    private void increment(int character) {
+        if (!trackingMostFrequent) {
+            if (counts[character]++ == 0 && touched != null) {
+                touched[touchedCount++] = (char) character;
+            }
+        } else if (character != excludedCharacter) {
+            long count = ++counts[character];
+            long maxCount = counts[mostFrequent];
+            if (count > maxCount || count == maxCount && character < mostFrequent) {
+                mostFrequent = character;
+            }
+        }
+    }
+
+    private int findMostFrequent() {
+        int mostFrequent = 0;
+        for (int c = 1; c < counts.length; c++) {
+            if (counts[c] > counts[mostFrequent]) {
+                mostFrequent = c;
+            }
+        }
+        return mostFrequent;
+    }
+
+    private static int continuation(ByteBuffer buffer, int index, long offset) {
+        int b = buffer.get(index);
+        if ((b & 0xC0) != 0x80) {
+            throw malformedInput(offset + index);
+        }
+        return b & 0x3F;
+    }
+
+    private static FileStatsException malformedInput(long position) {
+        return new FileStatsException("Malformed UTF-8 input at byte " + position);
+    }
+
+    /**
+     * Splits a file into ranges of about {@code rangeSize} bytes, but not more than 1GB, and returns their boundaries,
+     * including 0 and the file size.
+     * Every inner boundary is moved forward to the byte after the nearest line separator. If there is no separator
+     * within {@link #BOUNDARY_SEARCH_LIMIT} bytes, it is moved to the nearest first byte of a UTF-8 character instead.
+     */
+    private static List<Long> splitAtLineBoundaries(FileChannel channel, long size, long rangeSize)
+            throws IOException {
+        rangeSize = Math.min(rangeSize, MAX_RANGE_SIZE);
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        long boundary = rangeSize;
+        while (boundary < size) {
+            boundary = nextBoundary(channel, boundary, size);
+            boundaries.add(boundary);
+            boundary += rangeSize;
+        }
+        if (boundaries.get(boundaries.size() - 1) < size) {
+            boundaries.add(size);
+        }
+        return boundaries;
+    }
+
+    private static long nextBoundary(FileChannel channel, long position, long size) throws IOException {
+        int length = (int) Math.min(BOUNDARY_SEARCH_LIMIT, size - position);
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        for (int i = 0; i < length; i++) {
+            if (bytes.get(i) == '\n') {
+                return position + i + 1;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if ((bytes.get(i) & 0xC0) != 0x80) {
+                return position + i;
+            }
+        }
+        return position + length;
+    }
+
+    /**
+     * Counts ranges {@code [from, to)} of the boundary list. A task splits its ranges in halves until a single range
+     * is left, which is mapped and counted. The left half is counted in the current thread and the right one is
+     * forked, then the right histogram is added to the left one. The listener receives a size of every counted range.
+     */
+    private static class CountTask extends RecursiveTask<CharacterHistogram> {
+        private final FileChannel channel;
+        private final List<Long> boundaries;
+        private final int from;
+        private final int to;
+        private final LongConsumer rangeListener;
+
+        CountTask(FileChannel channel, List<Long> boundaries, int from, int to, LongConsumer rangeListener) {
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.from = from;
+            this.to = to;
+            this.rangeListener = rangeListener;
+        }
+
+        @Override
+        protected CharacterHistogram compute() {
+            if (to - from <= 1) {
+                return countRange();
+            }
+            int middle = (from + to) >>> 1;
+            CountTask right = new CountTask(channel, boundaries, middle, to, rangeListener);
+            right.fork();
+            CharacterHistogram histogram = new CountTask(channel, boundaries, from, middle, rangeListener).compute();
+            histogram.add(right.join());
+            return histogram;
+        }
+
+        private CharacterHistogram countRange() {
+            CharacterHistogram histogram = new CharacterHistogram();
+            if (from == to) {
+                return histogram;
+            }
+            long start = boundaries.get(from);
+            long end = boundaries.get(to);
+            histogram.countRange(channel, start, end);
+            rangeListener.accept(end - start);
+            return histogram;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.bobocode.se;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link CodePointHistogram} counts Unicode code points in a primitive open-addressing hash table that maps {@code int}
+ * code points to {@code long} counts. Unlike {@link CharacterHistogram}, it counts a character outside the Basic
+ * Multilingual Plane (e.g. an emoji) as one code point rather than two surrogates, and it takes memory proportional to
+ * the number of distinct code points rather than 512KB.
+ * <p>
+ * Collisions are resolved with linear probing. Code points are never negative, so {@code -1} marks a free slot. The
+ * capacity is always a power of two, and the table is doubled once it is half full. Counts only grow, so the most
+ * frequent code point is updated on every increment in O(1).
+ */
+public class CodePointHistogram {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int FREE = -1;
+
+    private int[] codePoints;
+    private long[] counts;
+    private int mask;
+    private int size;
+    private int mostFrequent = FREE;
+    private long mostFrequentCount;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public CodePointHistogram() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Adds one occurrence of a code point.
+     *
+     * @param codePoint a code point
+     * @throws IllegalArgumentException if the value is not a valid code point
+     */
+    public void increment(int codePoint) {
+        add(codePoint, 1);
+    }
+
+    /**
+     * Adds occurrences of a code point.
+     *
+     * @param codePoint a code point
+     * @param count     a number of occurrences to add, it should not be negative
+     * @throws IllegalArgumentException if the value is not a valid code point or the count is negative
+     */
+    public void add(int codePoint, long count) {
+        if (!Character.isValidCodePoint(codePoint) || count < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (count == 0) {
+            return;
+        }
+        int index = indexOf(codePoint);
+        if (codePoints[index] == FREE) {
+            codePoints[index] = codePoint;
+            if (++size > codePoints.length >> 1) {
+                resize();
+                index = indexOf(codePoint);
+            }
+        }
+        long newCount = counts[index] += count;
+        if (newCount > mostFrequentCount || newCount == mostFrequentCount && codePoint < mostFrequent) {
+            mostFrequent = codePoint;
+            mostFrequentCount = newCount;
+        }
+    }
+
+    /**
+     * Returns a number of occurrences of a code point.
+     *
+     * @param codePoint a code point
+     * @return a number of occurrences, 0 if the code point is absent
+     */
+    public long count(int codePoint) {
+        if (codePoint < 0) {
+            return 0;
+        }
+        return counts[indexOf(codePoint)];
+    }
+
+    /**
+     * Returns the code point with the greatest count. If several code points have the same count, the smallest of them
+     * is returned. It takes constant time.
+     *
+     * @return the most frequent code point
+     * @throws NoSuchElementException if no code points are counted
+     */
+    public int mostFrequent() {
+        if (mostFrequentCount == 0) {
+            throw new NoSuchElementException("No code points are counted");
+        }
+        return mostFrequent;
+    }
+
+    /**
+     * Returns a number of distinct code points.
+     *
+     * @return a number of code points with non-zero counts
+     */
+    public int distinct() {
+        return size;
+    }
+
+    /**
+     * Passes every counted code point and its count to the consumer in no particular order.
+     *
+     * @param consumer a consumer of code points and counts
+     */
+    public void forEach(CodePointCountConsumer consumer) {
+        for (int i = 0; i < codePoints.length; i++) {
+            if (codePoints[i] != FREE && counts[i] > 0) {
+                consumer.accept(codePoints[i], counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of a code point, or the free slot where it should be inserted.
+     */
+    private int indexOf(int codePoint) {
+        int index = hash(codePoint) & mask;
+        while (codePoints[index] != FREE && codePoints[index] != codePoint) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Spreads code points with Fibonacci hashing, since code points of one script are sequential.
+     */
+    private static int hash(int codePoint) {
+        int h = codePoint * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        codePoints = new int[capacity];
+        Arrays.fill(codePoints, FREE);
+        counts = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private void resize() {
+        int[] oldCodePoints = codePoints;
+        long[] oldCounts = counts;
+        allocate(oldCodePoints.length << 1);
+        for (int i = 0; i < oldCodePoints.length; i++) {
+            if (oldCodePoints[i] != FREE) {
+                int index = indexOf(oldCodePoints[i]);
+                codePoints[index] = oldCodePoints[i];
+                counts[index] = oldCounts[i];
+            }
+        }
+    }
+
+    /**
+     * A consumer of a code point and its count, which takes both as primitives.
+     */
+    @FunctionalInterface
+    public interface CodePointCountConsumer {
+        void accept(int codePoint, long count);
+    }
+}
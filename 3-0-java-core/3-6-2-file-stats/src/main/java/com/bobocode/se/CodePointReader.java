@@ -0,0 +1,89 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link CodePointReader} streams code points of a text file. The file is read into a reusable byte buffer and decoded
+ * with a {@link CharsetDecoder} into a reusable {@link CharBuffer}, so reading creates neither a {@link String} per
+ * line nor a boxed object per character. A surrogate pair that is split between two decoded chunks is joined, and an
+ * unpaired surrogate is passed as is.
+ */
+class CodePointReader {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CodePointReader() {
+    }
+
+    /**
+     * Passes every code point of a file to the consumer in the file order.
+     *
+     * @throws FileStatsException if the file cannot be read or decoded with the charset
+     */
+    static void forEachCodePoint(Path path, Charset charset, IntConsumer consumer) {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = channel.read(bytes) == -1;
+                bytes.flip();
+                CoderResult result;
+                do {
+                    result = check(decoder.decode(bytes, chars, endOfInput));
+                    acceptCodePoints(chars.flip(), consumer, false);
+                    chars.compact();
+                } while (result.isOverflow());
+                bytes.compact();
+            }
+            check(decoder.flush(chars));
+            acceptCodePoints(chars.flip(), consumer, true);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file: " + path, e);
+        }
+    }
+
+    private static CoderResult check(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+        return result;
+    }
+
+    /**
+     * Passes code points of the chars from position to limit. A high surrogate at the end is left in the buffer,
+     * unless it is the end of input, since its pair may be in the next chunk.
+     */
+    private static void acceptCodePoints(CharBuffer chars, IntConsumer consumer, boolean endOfInput) {
+        int limit = chars.limit();
+        int i = chars.position();
+        while (i < limit) {
+            char c = chars.get(i);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 == limit && !endOfInput) {
+                    break;
+                }
+                if (i + 1 < limit && Character.isLowSurrogate(chars.get(i + 1))) {
+                    codePoint = Character.toCodePoint(c, chars.get(++i));
+                }
+            }
+            consumer.accept(codePoint);
+            i++;
+        }
+        chars.position(i);
+    }
+}
@@ -0,0 +1,118 @@
+package com.bobocode.se;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link CodePointStats} provides an API that allow to get statistic of Unicode code points based on text file. Unlike
+ * {@link FileStats}, it counts a surrogate pair as one code point, supports any charset and lets the caller choose
+ * which code points to count with a filter. By default, all whitespace code points are ignored, including line
+ * separators.
+ * <p>
+ * Code points are read with {@link CodePointReader} and counted into a {@link CodePointHistogram}.
+ */
+public class CodePointStats {
+    /**
+     * Accepts all code points except whitespace, see {@link Character#isWhitespace(int)}.
+     */
+    public static final IntPredicate NOT_WHITESPACE = codePoint -> !Character.isWhitespace(codePoint);
+
+    private final CodePointHistogram histogram;
+
+    private CodePointStats(CodePointHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    /**
+     * Counts all non-whitespace code points of a UTF-8 file.
+     *
+     * @param path a path to a text file
+     * @return new stats of the file
+     */
+    public static CodePointStats from(Path path) {
+        return from(path, StandardCharsets.UTF_8, NOT_WHITESPACE);
+    }
+
+    /**
+     * Counts code points of a file that are accepted by the filter.
+     *
+     * @param path    a path to a text file
+     * @param charset a charset of the file
+     * @param filter  a predicate that accepts code points to count
+     * @return new stats of the file
+     * @throws FileStatsException if the file cannot be read or decoded with the charset
+     */
+    public static CodePointStats from(Path path, Charset charset, IntPredicate filter) {
+        CodePointHistogram histogram = new CodePointHistogram();
+        CodePointReader.forEachCodePoint(path, charset, codePoint -> {
+            if (filter.test(codePoint)) {
+                histogram.increment(codePoint);
+            }
+        });
+        return new CodePointStats(histogram);
+    }
+
+    /**
+     * Accepts code points of the given general categories, e.g. {@link Character#UPPERCASE_LETTER}.
+     *
+     * @param categories general categories, see {@link Character#getType(int)}
+     * @return a filter of code points
+     */
+    public static IntPredicate ofCategories(int... categories) {
+        long mask = 0;
+        for (int category : categories) {
+            mask |= 1L << category;
+        }
+        long categoryMask = mask;
+        return codePoint -> (categoryMask & (1L << Character.getType(codePoint))) != 0;
+    }
+
+    /**
+     * Returns a number of occurrences of the particular code point.
+     *
+     * @param codePoint a specific code point
+     * @return a number that shows how many times this code point appeared in a text file, 0 if it did not appear
+     */
+    public long getCount(int codePoint) {
+        return histogram.count(codePoint);
+    }
+
+    /**
+     * Returns a code point that appeared most often in the text.
+     *
+     * @return the most frequently appeared code point
+     */
+    public int getMostPopularCodePoint() {
+        return histogram.mostFrequent();
+    }
+
+    /**
+     * Returns {@code true} if this code point has appeared in the text, and {@code false} otherwise
+     *
+     * @param codePoint a specific code point to check
+     * @return {@code true} if this code point has appeared in the text, and {@code false} otherwise
+     */
+    public boolean containsCodePoint(int codePoint) {
+        return histogram.count(codePoint) > 0;
+    }
+
+    /**
+     * Returns a number of distinct counted code points.
+     *
+     * @return a number of distinct code points
+     */
+    public int getDistinctCodePoints() {
+        return histogram.distinct();
+    }
+
+    /**
+     * Returns the histogram of counted code points.
+     *
+     * @return a histogram
+     */
+    public CodePointHistogram getHistogram() {
+        return histogram;
+    }
+}
@@ -0,0 +1,125 @@
+package com.bobocode.se;
+
+/**
+ * {@link CountMinSketch} estimates counts of items of an unbounded vocabulary in a fixed amount of memory. It is a
+ * table of {@code depth} rows of {@code width} counters. An item is hashed into one counter of every row, and its
+ * estimate is the minimum of these counters. Collisions can only add to a counter, so an estimate is never less than
+ * the real count, and with probability {@code confidence} it exceeds it by at most {@code epsilon * total}.
+ * <p>
+ * The sketch uses conservative update: an item increases only the counters that are equal to its current minimum,
+ * which keeps estimates closer to real counts. Items are identified by 64-bit hashes, and the row indexes are derived
+ * from two halves of the hash (Kirsch–Mitzenmacher double hashing).
+ */
+public class CountMinSketch {
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    /**
+     * Creates a sketch of a given size.
+     *
+     * @param width a number of counters in a row
+     * @param depth a number of rows
+     * @throws IllegalArgumentException if width or depth is not positive, or the table is too large
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0 || (long) width * depth > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid sketch size: " + width + "x" + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    /**
+     * Creates a sketch that overestimates a count by at most {@code epsilon * total} with a given probability.
+     *
+     * @param epsilon    a max error relative to the total count, e.g. 0.0001
+     * @param confidence a probability that the error is within bounds, e.g. 0.99
+     * @return a new sketch
+     * @throws IllegalArgumentException if epsilon or confidence is out of (0, 1) range, or the table is too large
+     */
+    public static CountMinSketch withError(double epsilon, double confidence) {
+        checkError(epsilon, confidence);
+        return new CountMinSketch(width(epsilon), depth(confidence));
+    }
+
+    /**
+     * Checks that a sketch with a given error can be created, so callers that create the sketch later fail early.
+     *
+     * @throws IllegalArgumentException if epsilon or confidence is out of (0, 1) range, or the table is too large
+     */
+    static void checkError(double epsilon, double confidence) {
+        if (!(epsilon > 0 && epsilon < 1) || !(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Epsilon and confidence should be in range (0, 1)");
+        }
+        if ((double) width(epsilon) * depth(confidence) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Sketch is too large for epsilon " + epsilon + " and confidence "
+                    + confidence);
+        }
+    }
+
+    private static int width(double epsilon) {
+        return (int) Math.ceil(Math.E / epsilon);
+    }
+
+    private static int depth(double confidence) {
+        return (int) Math.ceil(Math.log(1 / (1 - confidence)));
+    }
+
+    /**
+     * Adds occurrences of an item and returns its new estimate.
+     *
+     * @param hash  a 64-bit hash of an item
+     * @param count a number of occurrences to add, it should not be negative
+     * @return an estimated count of the item
+     */
+    public long add(long hash, long count) {
+        long estimate = estimate(hash) + count;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + Integer.remainderUnsigned(h1 + row * h2, width);
+            if (counters[index] < estimate) {
+                counters[index] = estimate;
+            }
+        }
+        total += count;
+        return estimate;
+    }
+
+    /**
+     * Returns an estimated count of an item.
+     *
+     * @param hash a 64-bit hash of an item
+     * @return an estimated count, never less than the real one
+     */
+    public long estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + Integer.remainderUnsigned(h1 + row * h2, width)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns a total number of added occurrences.
+     *
+     * @return a total count
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Returns memory taken by the counters.
+     *
+     * @return size of the counters in bytes
+     */
+    public long sizeInBytes() {
+        return (long) counters.length * Long.BYTES;
+    }
+}
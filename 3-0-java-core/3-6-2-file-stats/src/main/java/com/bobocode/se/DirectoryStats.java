@@ -0,0 +1,311 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * {@link DirectoryStats} provides {@link FileStats} of every regular file in a directory tree and of all the files
+ * together. Files are UTF-8 texts, and characters are counted the same way as in {@link FileStats}.
+ * <p>
+ * The tree is walked first to find all files and their sizes. Then the work is divided into units of about the same
+ * size, 8MB by default, which are forked into a {@link ForkJoinPool} at once and balanced between workers by work
+ * stealing:
+ * <ul>
+ *     <li>a file larger than a unit is split into ranges at line boundaries, which are counted in parallel (see
+ *     {@link CharacterHistogram});</li>
+ *     <li>smaller files are batched together, and a batch reads its files one by one into a reusable buffer and counts
+ *     them into a reusable histogram, so a small file costs neither a task nor a 512KB array.</li>
+ * </ul>
+ * Units are forked one by one from the largest to the smallest. Idle workers steal the oldest forked tasks first, so
+ * they start with the largest units, and a huge file does not become the last unit when other workers are already
+ * idle. The submitting worker joins the units in the reverse order, so it runs the smallest ones itself.
+ * Per-file histograms are kept in the sparse form.
+ * <p>
+ * Progress is reported to an optional listener after every counted range or batch. The listener may be called from
+ * several worker threads at the same time.
+ */
+public class DirectoryStats {
+    static final long DEFAULT_UNIT_SIZE = 8 << 20;
+
+    private final Map<Path, FileStats> fileStats;
+    private final FileStats totalStats;
+
+    private DirectoryStats(Map<Path, FileStats> fileStats, FileStats totalStats) {
+        this.fileStats = fileStats;
+        this.totalStats = totalStats;
+    }
+
+    /**
+     * Counts characters of all files in a directory tree in the common {@link ForkJoinPool}.
+     *
+     * @param directory a root directory
+     * @return stats of the directory files
+     */
+    public static DirectoryStats from(Path directory) {
+        return from(directory, ForkJoinPool.commonPool(), progress -> {
+        });
+    }
+
+    /**
+     * Counts characters of all files in a directory tree in the given pool and reports progress to the listener.
+     *
+     * @param directory        a root directory
+     * @param pool             a pool that runs counting tasks
+     * @param progressListener a listener of counting progress
+     * @return stats of the directory files
+     * @throws FileStatsException if the directory cannot be walked or any file cannot be read
+     */
+    public static DirectoryStats from(Path directory, ForkJoinPool pool, Consumer<Progress> progressListener) {
+        return from(directory, pool, progressListener, DEFAULT_UNIT_SIZE);
+    }
+
+    static DirectoryStats from(Path directory, ForkJoinPool pool, Consumer<Progress> progressListener, long unitSize) {
+        List<FileEntry> files = walk(directory);
+        ProgressTracker tracker = new ProgressTracker(files, progressListener);
+        List<RecursiveTask<CharacterHistogram>> units = splitIntoUnits(directory, files, unitSize, tracker);
+        CharacterHistogram total = pool.invoke(new RecursiveTask<>() {
+            @Override
+            protected CharacterHistogram compute() {
+                // invokeAll(units) would fork from the last unit and run the first one inline
+                for (RecursiveTask<CharacterHistogram> unit : units) {
+                    unit.fork();
+                }
+                CharacterHistogram total = new CharacterHistogram();
+                for (int i = units.size() - 1; i >= 0; i--) {
+                    total.add(units.get(i).join());
+                }
+                return total;
+            }
+        });
+        Map<Path, FileStats> fileStats = new HashMap<>();
+        tracker.histograms.forEach((path, histogram) -> fileStats.put(path, FileStats.of(histogram)));
+        return new DirectoryStats(fileStats, FileStats.of(total));
+    }
+
+    /**
+     * Returns paths of all counted files relative to the root directory.
+     *
+     * @return relative file paths
+     */
+    public Set<Path> getFiles() {
+        return fileStats.keySet();
+    }
+
+    /**
+     * Returns stats of a single file.
+     *
+     * @param relativePath a file path relative to the root directory
+     * @return stats of the file
+     * @throws FileStatsException if there is no such file in the directory
+     */
+    public FileStats getFileStats(Path relativePath) {
+        FileStats stats = fileStats.get(relativePath);
+        if (stats == null) {
+            throw new FileStatsException("No such file in the directory: " + relativePath);
+        }
+        return stats;
+    }
+
+    /**
+     * Returns stats of all files together.
+     *
+     * @return aggregate stats
+     */
+    public FileStats getTotalStats() {
+        return totalStats;
+    }
+
+    private static List<FileEntry> walk(Path directory) {
+        List<FileEntry> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        files.add(new FileEntry(file, directory.relativize(file), attributes.size()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot walk directory: " + directory, e);
+        }
+        return files;
+    }
+
+    /**
+     * Creates a unit per large file and batches of small files, largest units first.
+     */
+    private static List<RecursiveTask<CharacterHistogram>> splitIntoUnits(Path directory, List<FileEntry> files,
+                                                                          long unitSize, ProgressTracker tracker) {
+        List<FileEntry> sortedFiles = new ArrayList<>(files);
+        sortedFiles.sort(Comparator.comparingLong(FileEntry::size).reversed());
+        List<RecursiveTask<CharacterHistogram>> units = new ArrayList<>();
+        List<FileEntry> batch = new ArrayList<>();
+        long batchSize = 0;
+        for (FileEntry file : sortedFiles) {
+            if (file.size() >= unitSize) {
+                units.add(new LargeFileTask(file, unitSize, tracker));
+                continue;
+            }
+            if (batchSize + file.size() > unitSize) {
+                units.add(new BatchTask(batch, unitSize, tracker));
+                batch = new ArrayList<>();
+                batchSize = 0;
+            }
+            batch.add(file);
+            batchSize += file.size();
+        }
+        if (!batch.isEmpty()) {
+            units.add(new BatchTask(batch, unitSize, tracker));
+        }
+        return units;
+    }
+
+    /**
+     * A snapshot of counting progress.
+     *
+     * @param processedFiles a number of counted files
+     * @param totalFiles     a number of all files
+     * @param processedBytes a number of counted bytes
+     * @param totalBytes     a size of all files
+     * @param elapsed        time since the counting started
+     */
+    public record Progress(long processedFiles, long totalFiles, long processedBytes, long totalBytes,
+                           Duration elapsed) {
+
+        /**
+         * Returns average counting throughput since the counting started.
+         *
+         * @return bytes per second
+         */
+        public double bytesPerSecond() {
+            long nanos = elapsed.toNanos();
+            return nanos == 0 ? 0 : processedBytes * 1e9 / nanos;
+        }
+    }
+
+    private record FileEntry(Path path, Path relativePath, long size) {
+    }
+
+    private static class ProgressTracker {
+        private final Map<Path, CharacterHistogram> histograms = new ConcurrentHashMap<>();
+        private final AtomicLong processedFiles = new AtomicLong();
+        private final AtomicLong processedBytes = new AtomicLong();
+        private final long totalFiles;
+        private final long totalBytes;
+        private final long startNanos = System.nanoTime();
+        private final Consumer<Progress> listener;
+
+        ProgressTracker(List<FileEntry> files, Consumer<Progress> listener) {
+            this.totalFiles = files.size();
+            this.totalBytes = files.stream().mapToLong(FileEntry::size).sum();
+            this.listener = listener;
+        }
+
+        void fileCounted(FileEntry file, CharacterHistogram histogram) {
+            histograms.put(file.relativePath(), histogram);
+            processedFiles.incrementAndGet();
+        }
+
+        void bytesCounted(long bytes) {
+            processedBytes.addAndGet(bytes);
+            report();
+        }
+
+        void report() {
+            listener.accept(new Progress(processedFiles.get(), totalFiles, processedBytes.get(), totalBytes,
+                    Duration.ofNanos(System.nanoTime() - startNanos)));
+        }
+    }
+
+    private static class LargeFileTask extends RecursiveTask<CharacterHistogram> {
+        private final FileEntry file;
+        private final long unitSize;
+        private final ProgressTracker tracker;
+
+        LargeFileTask(FileEntry file, long unitSize, ProgressTracker tracker) {
+            this.file = file;
+            this.unitSize = unitSize;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected CharacterHistogram compute() {
+            try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                CharacterHistogram histogram = CharacterHistogram.countInRanges(channel, file.size(), unitSize,
+                        tracker::bytesCounted);
+                tracker.fileCounted(file, histogram.compact());
+                tracker.report();
+                return histogram;
+            } catch (IOException | FileStatsException e) {
+                throw new FileStatsException("Cannot count file: " + file.path(), e);
+            }
+        }
+    }
+
+    private static class BatchTask extends RecursiveTask<CharacterHistogram> {
+        private final List<FileEntry> files;
+        private final long unitSize;
+        private final ProgressTracker tracker;
+
+        BatchTask(List<FileEntry> files, long unitSize, ProgressTracker tracker) {
+            this.files = files;
+            this.unitSize = unitSize;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected CharacterHistogram compute() {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(unitSize, files.get(0).size()));
+            CharacterHistogram fileHistogram = new CharacterHistogram();
+            fileHistogram.recordTouched();
+            CharacterHistogram batchHistogram = new CharacterHistogram();
+            long batchBytes = 0;
+            for (FileEntry file : files) {
+                buffer.clear().limit((int) file.size());
+                read(file, buffer);
+                try {
+                    fileHistogram.countUtf8(buffer.flip(), 0);
+                } catch (FileStatsException e) {
+                    throw new FileStatsException("Cannot count file: " + file.path(), e);
+                }
+                CharacterHistogram histogram = fileHistogram.drainTouched();
+                batchHistogram.add(histogram);
+                tracker.fileCounted(file, histogram);
+                batchBytes += file.size();
+            }
+            tracker.bytesCounted(batchBytes);
+            return batchHistogram;
+        }
+
+        private static void read(FileEntry file, ByteBuffer buffer) {
+            try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                    // read until the buffer is full or the file ends
+                }
+            } catch (IOException e) {
+                throw new FileStatsException("Cannot read file: " + file.path(), e);
+            }
+        }
+    }
+}
@@ -1,25 +1,20 @@
 package com.bobocode.se;
 
-import lombok.SneakyThrows;
-
-import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * The file is counted in parallel into a {@link CharacterHistogram}, so all queries are answered from a primitive
+ * array.
  */
 public class FileStats {
-    private final Map<Character, Long> characterCountMap;
-    private final char mostFrequentCharacter;
+    private static final char SPACE = ' ';
+
+    private final CharacterHistogram histogram;
 
     /**
      * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
@@ -28,15 +23,38 @@ public class FileStats {
      * @return new FileStats object created from text file
      */
     public static FileStats from(String fileName) {
-        return new FileStats(fileName);
+        return from(findFile(fileName));
     }
 
-    private FileStats(String filename) {
-        Path path = findFile(filename);
-        Stream<String> fileStream = openFileStream(path);
-        Stream<Character> characterStream = transformStringStreamToCharacterStream(fileStream);
-        characterCountMap = computeCharacterCountMap(characterStream);
-        mostFrequentCharacter = getMostPopularCharacter();
+    /**
+     * Creates a new immutable {@link FileStats} object using data from a UTF-8 text file specified by a filesystem
+     * path. The file is counted in the common {@link ForkJoinPool}.
+     *
+     * @param path a path to a text file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path path) {
+        return from(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} object using data from a UTF-8 text file specified by a filesystem
+     * path. The file is counted in the given pool.
+     *
+     * @param path a path to a text file
+     * @param pool a pool that runs counting tasks
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path path, ForkJoinPool pool) {
+        return new FileStats(CharacterHistogram.count(path, pool));
+    }
+
+    static FileStats of(CharacterHistogram histogram) {
+        return new FileStats(histogram);
+    }
+
+    private FileStats(CharacterHistogram histogram) {
+        this.histogram = histogram.without(SPACE);
     }
 
     /**
@@ -46,8 +64,7 @@ public class FileStats {
      * @return a number that shows how many times this character appeared in a text file
      */
     public int getCharCount(char character) {
-        return characterCountMap.get(character)
-                .intValue();
+        return Math.toIntExact(histogram.count(character));
     }
 
     /**
@@ -56,11 +73,7 @@ public class FileStats {
      * @return the most frequently appeared character
      */
     public char getMostPopularCharacter() {
-         return characterCountMap.entrySet()
-                 .stream()
-                 .max(Map.Entry.comparingByValue())
-                 .get()
-                 .getKey();
+        return histogram.mostFrequent();
     }
 
     /**
@@ -70,10 +83,10 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        return characterCountMap.containsKey(character);
+        return histogram.count(character) > 0;
     }
 
-    private Path findFile(String fileName) {
+    private static Path findFile(String fileName) {
         try {
             URL resource = FileStats.class.getClassLoader().getResource(fileName);
             return Path.of(resource.toURI());
@@ -81,24 +94,4 @@ public class FileStats {
             throw new FileStatsException("Cannot find resource: " + fileName);
         }
     }
-
-    @SneakyThrows
-    private Stream<String> openFileStream(Path path) {
-        try {
-            return Files.lines(path);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private Stream<Character> transformStringStreamToCharacterStream(Stream<String> fileStream) {
-        return fileStream
-                .flatMap(line -> line.chars().mapToObj(c -> (char) c));
-    }
-
-    private Map<Character, Long> computeCharacterCountMap(Stream<Character> characterStream) {
-        return characterStream
-                .filter(character -> character != 32)
-                .collect(groupingBy(Function.identity(), counting()));
-    }
 }
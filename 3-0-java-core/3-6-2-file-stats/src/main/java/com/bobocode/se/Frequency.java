@@ -0,0 +1,11 @@
+package com.bobocode.se;
+
+/**
+ * An item and its number of occurrences.
+ *
+ * @param item  an item, e.g. a word
+ * @param count a number of occurrences, exact or estimated
+ * @param <T>   item type
+ */
+public record Frequency<T>(T item, long count) {
+}
@@ -0,0 +1,185 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32C;
+
+/**
+ * {@link IncrementalFileStats} provides the same character statistic as {@link FileStats} for a file that grows, like
+ * a log file. It remembers how many bytes it has processed, and {@link #refresh()} maps and counts only the bytes
+ * appended since the previous call.
+ * <p>
+ * A file that is still being written may end in the middle of a UTF-8 character. Such a character is left for the next
+ * refresh, so the processed prefix always ends at a character boundary.
+ * <p>
+ * To detect that the file was truncated or replaced (e.g. rotated) rather than appended, the stats keep checksums of
+ * the first and the last 4KB of the processed prefix. If the file became shorter than the prefix or any of the
+ * checksums does not match, the whole file is counted again.
+ * <p>
+ * The most frequent character is updated on every counted character in O(1), see
+ * {@link CharacterHistogram#trackMostFrequent(char)}. This class is not thread-safe.
+ */
+public class IncrementalFileStats {
+    private static final char SPACE = ' ';
+    private static final int CHECKSUM_WINDOW = 4096;
+    private static final long DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    private final Path path;
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+    private CharacterHistogram histogram;
+    private long processedBytes;
+    private long headChecksum;
+    private long tailChecksum;
+
+    private IncrementalFileStats(Path path, ForkJoinPool pool, long chunkSize) {
+        this.path = path;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates stats of a UTF-8 text file and counts its current content in the common {@link ForkJoinPool}.
+     *
+     * @param path a path to a text file
+     * @return new stats of the file
+     */
+    public static IncrementalFileStats open(Path path) {
+        return open(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates stats of a UTF-8 text file and counts its current content in the given pool. The pool is also used when
+     * the whole file has to be counted again.
+     *
+     * @param path a path to a text file
+     * @param pool a pool that runs counting tasks
+     * @return new stats of the file
+     */
+    public static IncrementalFileStats open(Path path, ForkJoinPool pool) {
+        return open(path, pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    static IncrementalFileStats open(Path path, ForkJoinPool pool, long chunkSize) {
+        IncrementalFileStats stats = new IncrementalFileStats(path, pool, chunkSize);
+        stats.refresh();
+        return stats;
+    }
+
+    /**
+     * Counts bytes appended to the file since the previous refresh. The appended bytes are mapped in chunks of at most
+     * 1GB, so any amount of appended data can be counted. If the processed prefix of the file has changed, it counts
+     * the whole file again.
+     *
+     * @return a number of bytes counted by this call
+     * @throws FileStatsException if the file cannot be read or it is not a valid UTF-8 text
+     */
+    public long refresh() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (histogram == null || !isPrefixUnchanged(channel, size)) {
+                long end = completeCharactersEnd(channel, size);
+                processedBytes = 0;
+                histogram = CharacterHistogram.count(channel, end, pool);
+                histogram.trackMostFrequent(SPACE);
+                return processed(channel, end);
+            }
+            long end = completeCharactersEnd(channel, size);
+            if (end == processedBytes) {
+                return 0;
+            }
+            histogram.countInChunks(channel, processedBytes, end, chunkSize);
+            return processed(channel, end);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file: " + path, e);
+        }
+    }
+
+    /**
+     * Returns a number of bytes at the beginning of the file that are already counted.
+     *
+     * @return a size of the processed prefix
+     */
+    public long processedBytes() {
+        return processedBytes;
+    }
+
+    /**
+     * Returns a number of occurrences of the particular character.
+     *
+     * @param character a specific character
+     * @return a number that shows how many times this character appeared in the processed part of the file
+     */
+    public long getCharCount(char character) {
+        return histogram.count(character);
+    }
+
+    /**
+     * Returns a character that appeared most often in the processed part of the file. It takes constant time.
+     *
+     * @return the most frequently appeared character
+     */
+    public char getMostPopularCharacter() {
+        return histogram.mostFrequent();
+    }
+
+    /**
+     * Returns {@code true} if this character has appeared in the processed part of the file, and {@code false}
+     * otherwise
+     *
+     * @param character a specific character to check
+     * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
+     */
+    public boolean containsCharacter(char character) {
+        return histogram.count(character) > 0;
+    }
+
+    private long processed(FileChannel channel, long end) throws IOException {
+        long counted = end - processedBytes;
+        processedBytes = end;
+        headChecksum = checksum(channel, 0, Math.min(CHECKSUM_WINDOW, end));
+        tailChecksum = checksum(channel, Math.max(0, end - CHECKSUM_WINDOW), end);
+        return counted;
+    }
+
+    private boolean isPrefixUnchanged(FileChannel channel, long size) throws IOException {
+        return size >= processedBytes
+                && headChecksum == checksum(channel, 0, Math.min(CHECKSUM_WINDOW, processedBytes))
+                && tailChecksum == checksum(channel, Math.max(0, processedBytes - CHECKSUM_WINDOW), processedBytes);
+    }
+
+    private static long checksum(FileChannel channel, long from, long to) throws IOException {
+        CRC32C checksum = new CRC32C();
+        checksum.update(read(channel, from, (int) (to - from)));
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns the end of the last complete UTF-8 character of the file. Bytes of a character that is not written
+     * completely yet are excluded.
+     */
+    private static long completeCharactersEnd(FileChannel channel, long size) throws IOException {
+        int length = (int) Math.min(4, size);
+        ByteBuffer tail = read(channel, size - length, length);
+        for (int i = length - 1; i >= 0; i--) {
+            int b = tail.get(i);
+            if ((b & 0xC0) != 0x80) {
+                int characterLength = b >= 0 ? 1 : (b & 0xE0) == 0xC0 ? 2 : (b & 0xF0) == 0xE0 ? 3 : 4;
+                return i + characterLength <= length ? size : size - length + i;
+            }
+        }
+        return size;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) != -1) {
+            // read until the buffer is full or the file ends
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,178 @@
+package com.bobocode.se;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link TextAnalytics} finds the most frequent characters, words and character n-grams of a text file in a single
+ * streaming pass, see {@link CodePointReader}. Memory does not depend on the file size:
+ * <ul>
+ *     <li>characters are counted exactly in a {@link CodePointHistogram}, since there are at most 1.1M code
+ *     points;</li>
+ *     <li>words and n-grams are counted with a {@link TopKCounter}, which is exact for small vocabularies and switches
+ *     to a {@link CountMinSketch} with a heap of candidates for large ones.</li>
+ * </ul>
+ * A word is a maximal run of letters and digits, compared case-insensitively (in lower case). An n-gram is a run of
+ * {@code n} consecutive code points inside a word, so n-grams never span whitespace or punctuation. Whitespace is never
+ * counted.
+ */
+public class TextAnalytics {
+    private static final int DEFAULT_EXACT_LIMIT = 100_000;
+    private static final double DEFAULT_EPSILON = 1e-4;
+    private static final double DEFAULT_CONFIDENCE = 0.99;
+    private static final int MAX_N = 3;
+    private static final int CODE_POINT_BITS = 21;
+    private static final Comparator<Frequency<Integer>> CODE_POINT_ORDER =
+            Comparator.<Frequency<Integer>>comparingLong(Frequency::count)
+                    .thenComparing(Frequency::item, Comparator.reverseOrder());
+
+    private final int k;
+    private final int exactLimit;
+    private final Charset charset;
+
+    /**
+     * Creates analytics of UTF-8 files that find top {@code k} items and count up to 100k distinct words or n-grams
+     * exactly.
+     *
+     * @param k a number of most frequent items to find
+     */
+    public TextAnalytics(int k) {
+        this(k, DEFAULT_EXACT_LIMIT, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates analytics.
+     *
+     * @param k          a number of most frequent items to find
+     * @param exactLimit max number of distinct words or n-grams that are counted exactly
+     * @param charset    a charset of files
+     * @throws IllegalArgumentException if k is not positive or the exact limit is less than k
+     */
+    public TextAnalytics(int k, int exactLimit, Charset charset) {
+        if (k <= 0 || exactLimit < k) {
+            throw new IllegalArgumentException("K should be positive and not greater than the exact limit");
+        }
+        this.k = k;
+        this.exactLimit = exactLimit;
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the most frequent non-whitespace code points of a file. Counts are exact.
+     *
+     * @param path a path to a text file
+     * @return most frequent code points in descending order of counts
+     */
+    public List<Frequency<Integer>> topCharacters(Path path) {
+        CodePointHistogram histogram = CodePointStats.from(path, charset, CodePointStats.NOT_WHITESPACE).getHistogram();
+        PriorityQueue<Frequency<Integer>> heap = new PriorityQueue<>(CODE_POINT_ORDER);
+        histogram.forEach((codePoint, count) -> {
+            heap.add(new Frequency<>(codePoint, count));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        });
+        List<Frequency<Integer>> top = new ArrayList<>(heap);
+        top.sort(CODE_POINT_ORDER.reversed());
+        return List.copyOf(top);
+    }
+
+    /**
+     * Returns the most frequent words of a file in lower case.
+     *
+     * @param path a path to a text file
+     * @return a counter of words with the result
+     */
+    public TopKCounter<String> topWords(Path path) {
+        TopKCounter<String> counter = newCounter(TextAnalytics::hash);
+        StringBuilder word = new StringBuilder();
+        CodePointReader.forEachCodePoint(path, charset, codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if (!word.isEmpty()) {
+                counter.add(word.toString());
+                word.setLength(0);
+            }
+        });
+        if (!word.isEmpty()) {
+            counter.add(word.toString());
+        }
+        return counter;
+    }
+
+    /**
+     * Returns the most frequent character n-grams of a file. An n-gram is packed into a {@code long}, 21 bits per code
+     * point, so it is counted without creating a string; use {@link #nGramToString(long, int)} to decode it.
+     *
+     * @param path a path to a text file
+     * @param n    n-gram length from 1 to 3
+     * @return a counter of packed n-grams with the result
+     * @throws IllegalArgumentException if n is out of range
+     */
+    public TopKCounter<Long> topNGrams(Path path, int n) {
+        if (n < 1 || n > MAX_N) {
+            throw new IllegalArgumentException("N should be in range [1, " + MAX_N + "]");
+        }
+        TopKCounter<Long> counter = newCounter(TextAnalytics::mix);
+        long mask = (1L << (CODE_POINT_BITS * n)) - 1;
+        long[] window = new long[1];
+        int[] length = new int[1];
+        CodePointReader.forEachCodePoint(path, charset, codePoint -> {
+            if (!Character.isLetterOrDigit(codePoint)) {
+                length[0] = 0;
+                return;
+            }
+            window[0] = ((window[0] << CODE_POINT_BITS) | codePoint) & mask;
+            if (++length[0] >= n) {
+                counter.add(window[0]);
+            }
+        });
+        return counter;
+    }
+
+    /**
+     * Decodes an n-gram packed by {@link #topNGrams(Path, int)}.
+     *
+     * @param nGram a packed n-gram
+     * @param n     n-gram length
+     * @return n-gram string
+     */
+    public static String nGramToString(long nGram, int n) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = n - 1; i >= 0; i--) {
+            builder.appendCodePoint((int) (nGram >>> (CODE_POINT_BITS * i)) & ((1 << CODE_POINT_BITS) - 1));
+        }
+        return builder.toString();
+    }
+
+    private <T> TopKCounter<T> newCounter(ToLongFunction<? super T> hash) {
+        return new TopKCounter<>(k, exactLimit, hash, DEFAULT_EPSILON, DEFAULT_CONFIDENCE);
+    }
+
+    /**
+     * A 64-bit FNV-1a hash of a string, finished with {@link #mix(long)}. {@link String#hashCode()} has only 32 bits,
+     * which is not enough for the two independent halves that {@link CountMinSketch} needs.
+     */
+    private static long hash(String word) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            h = (h ^ word.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * The finalizer of SplitMix64, which spreads every input bit over all output bits.
+     */
+    static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,141 @@
+package com.bobocode.se;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link TopKCounter} finds the {@code k} most frequent items of a stream in bounded memory.
+ * <p>
+ * While the number of distinct items does not exceed {@code exactLimit}, items are counted exactly in a
+ * {@link HashMap}. Once the limit is exceeded, the counts are moved into a {@link CountMinSketch} and the map is
+ * dropped. From then on, every item updates the sketch, and the {@code k} items with the greatest estimates are kept
+ * as candidates in a min-heap. A new item replaces the heap minimum as soon as its estimate becomes greater. Memory is
+ * bounded by the exact limit, the sketch size and {@code k}, regardless of the stream length.
+ * <p>
+ * Estimates only grow, so a candidate whose estimate changes is added to the heap again rather than moved, and stale
+ * heap entries are skipped when the minimum is read. The heap is rebuilt when stale entries take too much space.
+ *
+ * @param <T> item type
+ */
+public class TopKCounter<T> {
+    private static final Comparator<Frequency<?>> BY_COUNT = Comparator.comparingLong(Frequency::count);
+
+    private final int k;
+    private final int exactLimit;
+    private final ToLongFunction<? super T> hash;
+    private final double epsilon;
+    private final double confidence;
+    private Map<T, long[]> exactCounts = new HashMap<>();
+    private CountMinSketch sketch;
+    private Map<T, Long> candidates;
+    private PriorityQueue<Frequency<T>> heap;
+
+    /**
+     * Creates a counter.
+     *
+     * @param k          a number of most frequent items to find
+     * @param exactLimit max number of distinct items that are counted exactly
+     * @param hash       a 64-bit hash function of items, it should spread items uniformly
+     * @param epsilon    a max error of the sketch relative to the total count, see {@link CountMinSketch}
+     * @param confidence a probability that an error is within bounds
+     * @throws IllegalArgumentException if k is not positive, the exact limit is less than k, or a sketch cannot be
+     *                                  created with the given epsilon and confidence
+     */
+    public TopKCounter(int k, int exactLimit, ToLongFunction<? super T> hash, double epsilon, double confidence) {
+        if (k <= 0 || exactLimit < k) {
+            throw new IllegalArgumentException("K should be positive and not greater than the exact limit");
+        }
+        CountMinSketch.checkError(epsilon, confidence);
+        this.k = k;
+        this.exactLimit = exactLimit;
+        this.hash = hash;
+        this.epsilon = epsilon;
+        this.confidence = confidence;
+    }
+
+    /**
+     * Adds an occurrence of an item.
+     *
+     * @param item an item
+     */
+    public void add(T item) {
+        if (exactCounts != null) {
+            exactCounts.computeIfAbsent(item, key -> new long[1])[0]++;
+            if (exactCounts.size() > exactLimit) {
+                switchToSketch();
+            }
+        } else {
+            offer(item, sketch.add(hash.applyAsLong(item), 1));
+        }
+    }
+
+    /**
+     * Returns {@code true} while the counts are exact, and {@code false} once the sketch is used.
+     *
+     * @return {@code true} if counts are exact
+     */
+    public boolean isExact() {
+        return exactCounts != null;
+    }
+
+    /**
+     * Returns up to {@code k} most frequent items in descending order of their counts. If the counter is not exact,
+     * counts are estimates that are never less than the real ones, and an item with a count close to the k-th one may
+     * be missing.
+     *
+     * @return most frequent items
+     */
+    public List<Frequency<T>> topK() {
+        List<Frequency<T>> top = new ArrayList<>();
+        if (exactCounts != null) {
+            exactCounts.forEach((item, count) -> top.add(new Frequency<>(item, count[0])));
+        } else {
+            candidates.forEach((item, count) -> top.add(new Frequency<>(item, count)));
+        }
+        top.sort(BY_COUNT.reversed());
+        return List.copyOf(top.subList(0, Math.min(k, top.size())));
+    }
+
+    private void switchToSketch() {
+        sketch = CountMinSketch.withError(epsilon, confidence);
+        candidates = new HashMap<>();
+        heap = new PriorityQueue<>(BY_COUNT);
+        Map<T, long[]> counts = exactCounts;
+        exactCounts = null;
+        counts.forEach((item, count) -> offer(item, sketch.add(hash.applyAsLong(item), count[0])));
+    }
+
+    private void offer(T item, long estimate) {
+        Long current = candidates.get(item);
+        if (current == null && candidates.size() >= k) {
+            Frequency<T> minimum = validMinimum();
+            if (estimate <= minimum.count()) {
+                return;
+            }
+            heap.poll();
+            candidates.remove(minimum.item());
+        }
+        candidates.put(item, estimate);
+        heap.add(new Frequency<>(item, estimate));
+        if (heap.size() > 4 * k) {
+            heap.clear();
+            candidates.forEach((candidate, count) -> heap.add(new Frequency<>(candidate, count)));
+        }
+    }
+
+    private Frequency<T> validMinimum() {
+        while (true) {
+            Frequency<T> minimum = heap.peek();
+            Long count = candidates.get(minimum.item());
+            if (count != null && count == minimum.count()) {
+                return minimum;
+            }
+            heap.poll();
+        }
+    }
+}
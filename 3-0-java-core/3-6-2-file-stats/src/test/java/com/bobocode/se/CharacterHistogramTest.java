@@ -0,0 +1,127 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CharacterHistogramTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @TempDir
+    Path directory;
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void countMatchesStringCharsOnMultiRangeFile() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < 6_000_000; i++) {
+            text.append("Line ").append(i).append(": ab\tc, привіт, 日本語, 😀")
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        Path path = Files.writeString(directory.resolve("text.txt"), text);
+
+        CharacterHistogram histogram = CharacterHistogram.count(path, POOL);
+
+        long[] expected = new long[CharacterHistogram.CHARACTERS];
+        text.chars().filter(c -> c != '\n' && c != '\r').forEach(c -> expected[c]++);
+        for (int c = 0; c < CharacterHistogram.CHARACTERS; c++) {
+            assertThat(histogram.count((char) c)).as("count of %d", c).isEqualTo(expected[c]);
+        }
+        assertThat(histogram.mostFrequent()).isEqualTo(' ');
+        assertThat(histogram.without(' ').mostFrequent()).isEqualTo(',');
+    }
+
+    @Test
+    void countLongLineWithoutSeparators() throws IOException {
+        String text = "ї".repeat(1_500_000);
+        Path path = Files.writeString(directory.resolve("line.txt"), text);
+
+        CharacterHistogram histogram = CharacterHistogram.count(path, POOL);
+
+        assertThat(histogram.count('ї')).isEqualTo(1_500_000);
+        assertThat(histogram.total()).isEqualTo(1_500_000);
+    }
+
+    @Test
+    void countEmptyFile() throws IOException {
+        Path path = Files.createFile(directory.resolve("empty.txt"));
+
+        CharacterHistogram histogram = CharacterHistogram.count(path, POOL);
+
+        assertThat(histogram.total()).isZero();
+        assertThatThrownBy(histogram::mostFrequent).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void countMalformedInput() throws IOException {
+        Path path = Files.write(directory.resolve("malformed.txt"), new byte[]{'a', (byte) 0xC3, 'b'});
+
+        assertThatThrownBy(() -> CharacterHistogram.count(path, POOL))
+                .isInstanceOf(FileStatsException.class)
+                .hasMessageContaining("byte 2");
+    }
+
+    @Test
+    void countInvalidUtf8Sequences() throws IOException {
+        byte[][] sequences = {
+                {(byte) 0xC0, (byte) 0xAF}, // overlong '/'
+                {(byte) 0xE0, (byte) 0x80, (byte) 0xAF}, // overlong '/'
+                {(byte) 0xF0, (byte) 0x80, (byte) 0x80, (byte) 0xAF}, // overlong '/'
+                {(byte) 0xED, (byte) 0xA0, (byte) 0x80}, // surrogate U+D800
+                {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}, // U+110000
+                {(byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80} // above U+10FFFF
+        };
+        for (byte[] sequence : sequences) {
+            byte[] bytes = new byte[sequence.length + 1];
+            bytes[0] = 'a';
+            System.arraycopy(sequence, 0, bytes, 1, sequence.length);
+            Path path = Files.write(directory.resolve("invalid.txt"), bytes);
+
+            assertThatThrownBy(() -> CharacterHistogram.count(path, POOL))
+                    .isInstanceOf(FileStatsException.class)
+                    .hasMessageContaining("byte 1");
+        }
+    }
+
+    @Test
+    void fileStatsFromPath() throws IOException {
+        Path path = Files.write(directory.resolve("stats.txt"), "aab b\nc".getBytes(StandardCharsets.UTF_8));
+
+        FileStats fileStats = FileStats.from(path, POOL);
+
+        assertThat(fileStats.getCharCount('b')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('x')).isZero();
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('a');
+        assertThat(fileStats.containsCharacter(' ')).isFalse();
+        assertThat(fileStats.containsCharacter('\n')).isFalse();
+    }
+
+    @Test
+    void sparseHistogram() {
+        CharacterHistogram histogram = new CharacterHistogram();
+        histogram.countUtf8(ByteBuffer.wrap("caab".getBytes(StandardCharsets.UTF_8)), 0);
+
+        CharacterHistogram sparse = histogram.compact();
+
+        assertThat(sparse.count('a')).isEqualTo(2);
+        assertThat(sparse.count('d')).isZero();
+        assertThat(sparse.total()).isEqualTo(4);
+        assertThat(sparse.mostFrequent()).isEqualTo('a');
+        assertThat(sparse.without('a').mostFrequent()).isEqualTo('b');
+    }
+}
@@ -0,0 +1,69 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CodePointHistogramTest {
+
+    @Test
+    void countsMatchHashMapAfterResizes() {
+        CodePointHistogram histogram = new CodePointHistogram();
+        Map<Integer, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int codePoint = random.nextInt(5_000) * 200;
+            histogram.increment(codePoint);
+            expected.merge(codePoint, 1L, Long::sum);
+        }
+
+        assertThat(histogram.distinct()).isEqualTo(expected.size());
+        expected.forEach((codePoint, count) -> assertThat(histogram.count(codePoint)).isEqualTo(count));
+        Map<Integer, Long> visited = new HashMap<>();
+        histogram.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    void mostFrequentIsUpdatedOnIncrement() {
+        CodePointHistogram histogram = new CodePointHistogram();
+        int emoji = "😀".codePointAt(0);
+
+        histogram.add(emoji, 2);
+        histogram.increment('b');
+        histogram.increment('b');
+
+        assertThat(histogram.mostFrequent()).isEqualTo('b');
+
+        histogram.increment(emoji);
+
+        assertThat(histogram.mostFrequent()).isEqualTo(emoji);
+    }
+
+    @Test
+    void absentCodePoints() {
+        CodePointHistogram histogram = new CodePointHistogram();
+        histogram.add('a', 0);
+
+        assertThat(histogram.count('a')).isZero();
+        assertThat(histogram.count(-5)).isZero();
+        assertThat(histogram.distinct()).isZero();
+        assertThatThrownBy(histogram::mostFrequent).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void invalidCodePoint() {
+        CodePointHistogram histogram = new CodePointHistogram();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.increment(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.increment(Character.MAX_CODE_POINT + 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.add('a', -1));
+    }
+}
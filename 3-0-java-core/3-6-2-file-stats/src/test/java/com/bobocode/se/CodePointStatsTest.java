@@ -0,0 +1,66 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CodePointStatsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void surrogatePairIsOneCodePoint() throws IOException {
+        Path path = Files.writeString(directory.resolve("emoji.txt"), "😀 a\t😀\n😀b");
+
+        CodePointStats stats = CodePointStats.from(path);
+
+        int emoji = "😀".codePointAt(0);
+        assertThat(stats.getCount(emoji)).isEqualTo(3);
+        assertThat(stats.getMostPopularCodePoint()).isEqualTo(emoji);
+        assertThat(stats.getCount("😀".charAt(0))).isZero();
+        assertThat(stats.containsCodePoint('\t')).isFalse();
+        assertThat(stats.containsCodePoint('\n')).isFalse();
+        assertThat(stats.getDistinctCodePoints()).isEqualTo(3);
+    }
+
+    @Test
+    void surrogatePairsAcrossBufferBoundaries() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            text.append(i % 3 == 0 ? "x" : "").append("😀ї");
+        }
+        Path path = Files.writeString(directory.resolve("large.txt"), text);
+
+        CodePointStats stats = CodePointStats.from(path);
+
+        assertThat(stats.getCount("😀".codePointAt(0))).isEqualTo(50_000);
+        assertThat(stats.getCount('ї')).isEqualTo(50_000);
+        assertThat(stats.getCount('x')).isEqualTo(16_667);
+    }
+
+    @Test
+    void categoryFilterAndCharset() throws IOException {
+        Path path = Files.writeString(directory.resolve("utf16.txt"), "Hello, World! Привіт", StandardCharsets.UTF_16);
+
+        CodePointStats stats = CodePointStats.from(path, StandardCharsets.UTF_16,
+                CodePointStats.ofCategories(Character.UPPERCASE_LETTER));
+
+        assertThat(stats.getDistinctCodePoints()).isEqualTo(3);
+        assertThat(stats.containsCodePoint('П')).isTrue();
+        assertThat(stats.containsCodePoint('e')).isFalse();
+    }
+
+    @Test
+    void malformedInput() throws IOException {
+        Path path = Files.write(directory.resolve("malformed.txt"), new byte[]{'a', (byte) 0xC3});
+
+        assertThatThrownBy(() -> CodePointStats.from(path)).isInstanceOf(FileStatsException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class CountMinSketchTest {
+
+    @Test
+    void estimatesAreNeverLessThanCountsAndWithinErrorBound() {
+        CountMinSketch sketch = CountMinSketch.withError(0.001, 0.99);
+        long[] counts = new long[50_000];
+        Random random = new Random(7);
+        for (int i = 0; i < 500_000; i++) {
+            int item = (int) Math.min(counts.length - 1, Math.abs(random.nextGaussian()) * 2_000);
+            counts[item]++;
+            sketch.add(TextAnalytics.mix(item), 1);
+        }
+
+        long bound = (long) (0.001 * sketch.total());
+        int outOfBound = 0;
+        for (int item = 0; item < counts.length; item++) {
+            long estimate = sketch.estimate(TextAnalytics.mix(item));
+            assertThat(estimate).isGreaterThanOrEqualTo(counts[item]);
+            if (estimate - counts[item] > bound) {
+                outOfBound++;
+            }
+        }
+        assertThat(sketch.total()).isEqualTo(500_000);
+        assertThat(outOfBound).isLessThan(counts.length / 100);
+    }
+
+    @Test
+    void addReturnsNewEstimate() {
+        CountMinSketch sketch = new CountMinSketch(16, 4);
+
+        assertThat(sketch.add(42, 3)).isEqualTo(3);
+        assertThat(sketch.add(42, 2)).isEqualTo(5);
+        assertThat(sketch.estimate(42)).isEqualTo(5);
+        assertThat(sketch.sizeInBytes()).isEqualTo(16 * 4 * 8);
+    }
+
+    @Test
+    void invalidParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CountMinSketch(0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> CountMinSketch.withError(0, 0.9));
+        assertThatIllegalArgumentException().isThrownBy(() -> CountMinSketch.withError(0.1, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> CountMinSketch.withError(1e-12, 0.99));
+    }
+}
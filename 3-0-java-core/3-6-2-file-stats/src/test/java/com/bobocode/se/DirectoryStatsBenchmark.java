@@ -0,0 +1,94 @@
+package com.bobocode.se;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A JMH benchmark that counts a generated corpus of many small files (100k files of about 4KB by default) and a few
+ * large ones (4 files of 64MB) with {@link DirectoryStats}, and with {@link FileStats} called for every file one by
+ * one. The score is the time to count the whole corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DirectoryStatsBenchmark {
+    private static final String LINE = "The quick brown fox jumps over the lazy dog. Швидка бура лисиця, line ";
+
+    @Param({"100000"})
+    private int smallFiles;
+
+    @Param({"4"})
+    private int largeFiles;
+
+    private Path directory;
+    private List<Path> files;
+
+    @Setup(Level.Trial)
+    public void generateCorpus() throws IOException {
+        directory = Files.createTempDirectory("directory-stats-benchmark");
+        for (int i = 0; i < smallFiles; i++) {
+            Path subdirectory = Files.createDirectories(directory.resolve(String.valueOf(i % 100)));
+            Files.writeString(subdirectory.resolve(i + ".txt"), (LINE + i + '\n').repeat(50 + i % 20));
+        }
+        String largeContent = (LINE + '\n').repeat(64 * (1 << 20) / LINE.length());
+        for (int i = 0; i < largeFiles; i++) {
+            Files.writeString(directory.resolve("large-" + i + ".txt"), largeContent);
+        }
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCorpus() throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long directoryStats() {
+        return DirectoryStats.from(directory).getTotalStats().getCharCount('e');
+    }
+
+    @Benchmark
+    public long fileStatsPerFile() {
+        long count = 0;
+        for (Path file : files) {
+            count += FileStats.from(file).getCharCount('e');
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DirectoryStatsBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DirectoryStatsTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final long UNIT_SIZE = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void statsOfSmallAndLargeFilesMatchFileStats() throws IOException {
+        Files.createDirectories(directory.resolve("logs/old"));
+        Files.writeString(directory.resolve("a.txt"), "aaa bb\n");
+        Files.writeString(directory.resolve("logs/b.txt"), "ббб\r\nccc");
+        Files.createFile(directory.resolve("logs/empty.txt"));
+        Files.writeString(directory.resolve("logs/old/large.txt"), "zzz 😀 line\n".repeat(300_000));
+        for (int i = 0; i < 300; i++) {
+            Files.writeString(directory.resolve("logs/old/" + i + ".txt"), ("file " + i + "\n").repeat(i));
+        }
+        List<DirectoryStats.Progress> progress = Collections.synchronizedList(new ArrayList<>());
+
+        DirectoryStats stats = DirectoryStats.from(directory, POOL, progress::add, UNIT_SIZE);
+
+        assertThat(stats.getFiles()).hasSize(304).contains(Path.of("logs/old/large.txt"));
+        long totalA = 0;
+        for (Path file : stats.getFiles()) {
+            FileStats expected = FileStats.from(directory.resolve(file), POOL);
+            FileStats actual = stats.getFileStats(file);
+            for (char c : "abcfilez0123456789б\n".toCharArray()) {
+                assertThat(actual.getCharCount(c)).as("%s in %s", c, file).isEqualTo(expected.getCharCount(c));
+            }
+            totalA += actual.getCharCount('a');
+        }
+        FileStats large = stats.getFileStats(Path.of("logs/old/large.txt"));
+        assertThat(large.getMostPopularCharacter()).isEqualTo('z');
+        assertThat(large.getCharCount("😀".charAt(0))).isEqualTo(300_000);
+        assertThat(stats.getTotalStats().getCharCount('a')).isEqualTo(totalA);
+        assertThat(stats.getTotalStats().getCharCount('z')).isEqualTo(900_000);
+        assertThat(stats.getTotalStats().containsCharacter(' ')).isFalse();
+
+        DirectoryStats.Progress last = progress.stream()
+                .max(Comparator.comparingLong(DirectoryStats.Progress::processedFiles)
+                        .thenComparingLong(DirectoryStats.Progress::processedBytes))
+                .orElseThrow();
+        assertThat(progress).hasSizeGreaterThan(2);
+        assertThat(last.processedBytes()).isEqualTo(last.totalBytes());
+        assertThat(last.processedFiles()).isEqualTo(304);
+        assertThat(last.totalFiles()).isEqualTo(304);
+    }
+
+    @Test
+    void statsOfEmptyDirectory() {
+        DirectoryStats stats = DirectoryStats.from(directory);
+
+        assertThat(stats.getFiles()).isEmpty();
+        assertThat(stats.getTotalStats().containsCharacter('a')).isFalse();
+    }
+
+    @Test
+    void statsOfUnknownFile() {
+        DirectoryStats stats = DirectoryStats.from(directory);
+
+        assertThatThrownBy(() -> stats.getFileStats(Path.of("missing.txt"))).isInstanceOf(FileStatsException.class);
+    }
+}
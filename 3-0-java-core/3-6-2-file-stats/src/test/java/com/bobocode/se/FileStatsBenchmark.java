@@ -0,0 +1,92 @@
+package com.bobocode.se;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * A JMH benchmark that builds character statistics of a generated text file (1GB by default) with {@link FileStats}
+ * and with the previous implementation, which boxed every character into a {@code Stream<Character>} and collected it
+ * with {@code groupingBy(identity(), counting())}. Both return the count of the most frequent character.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class FileStatsBenchmark {
+    private static final String LINE = "The quick brown fox jumps over the lazy dog. Швидка бура лисиця, line ";
+
+    @Param({"1073741824"})
+    private long fileSize;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void generateFile() throws IOException {
+        file = Files.createTempFile("file-stats-benchmark", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (long i = 0; Files.size(file) < fileSize; i++) {
+                for (int j = 0; j < 10_000; j++) {
+                    writer.write(LINE + i + '\n');
+                }
+                writer.flush();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int histogram() {
+        FileStats fileStats = FileStats.from(file);
+        return fileStats.getCharCount(fileStats.getMostPopularCharacter());
+    }
+
+    @Benchmark
+    public long boxedStream() throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            Map<Character, Long> counts = lines
+                    .flatMap(line -> line.chars().mapToObj(c -> (char) c))
+                    .filter(character -> character != 32)
+                    .collect(groupingBy(Function.identity(), counting()));
+            return counts.values().stream().max(Long::compare).orElse(0L);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FileStatsBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
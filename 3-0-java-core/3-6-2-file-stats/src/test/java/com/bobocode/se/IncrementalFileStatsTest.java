@@ -0,0 +1,122 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalFileStatsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void refreshCountsOnlyAppendedBytes() throws IOException {
+        Path path = Files.writeString(directory.resolve("app.log"), "aab b\n");
+        IncrementalFileStats stats = IncrementalFileStats.open(path);
+
+        assertThat(stats.processedBytes()).isEqualTo(6);
+        assertThat(stats.getMostPopularCharacter()).isEqualTo('a');
+
+        append(path, "bbb\r\nc");
+
+        assertThat(stats.refresh()).isEqualTo(6);
+        assertThat(stats.processedBytes()).isEqualTo(12);
+        assertThat(stats.getCharCount('b')).isEqualTo(5);
+        assertThat(stats.getMostPopularCharacter()).isEqualTo('b');
+        assertThat(stats.containsCharacter(' ')).isFalse();
+        assertThat(stats.containsCharacter('\r')).isFalse();
+        assertThat(stats.refresh()).isZero();
+    }
+
+    @Test
+    void refreshLeavesIncompleteCharacterForNextRefresh() throws IOException {
+        byte[] bytes = "aї😀".getBytes(StandardCharsets.UTF_8);
+        Path path = Files.write(directory.resolve("app.log"), Arrays.copyOf(bytes, 2));
+        IncrementalFileStats stats = IncrementalFileStats.open(path);
+
+        assertThat(stats.processedBytes()).isEqualTo(1);
+
+        append(path, Arrays.copyOfRange(bytes, 2, 5));
+        stats.refresh();
+
+        assertThat(stats.processedBytes()).isEqualTo(3);
+        assertThat(stats.getCharCount('ї')).isEqualTo(1);
+
+        append(path, Arrays.copyOfRange(bytes, 5, bytes.length));
+        stats.refresh();
+
+        assertThat(stats.processedBytes()).isEqualTo(bytes.length);
+        assertThat(stats.getCharCount("😀".charAt(0))).isEqualTo(1);
+        assertThat(stats.getCharCount("😀".charAt(1))).isEqualTo(1);
+    }
+
+    @Test
+    void refreshRecountsTruncatedFile() throws IOException {
+        Path path = Files.writeString(directory.resolve("app.log"), "aaaa\n");
+        IncrementalFileStats stats = IncrementalFileStats.open(path);
+
+        Files.writeString(path, "bb\n");
+
+        assertThat(stats.refresh()).isEqualTo(3);
+        assertThat(stats.getCharCount('a')).isZero();
+        assertThat(stats.getMostPopularCharacter()).isEqualTo('b');
+    }
+
+    @Test
+    void refreshRecountsReplacedFile() throws IOException {
+        Path path = Files.writeString(directory.resolve("app.log"), "aaaa\n");
+        IncrementalFileStats stats = IncrementalFileStats.open(path);
+
+        Files.writeString(path, "bbbbbbbb\n");
+
+        assertThat(stats.refresh()).isEqualTo(9);
+        assertThat(stats.getCharCount('a')).isZero();
+        assertThat(stats.getCharCount('b')).isEqualTo(8);
+    }
+
+    @Test
+    void incrementalStatsMatchFullCount() throws IOException {
+        Path path = Files.createFile(directory.resolve("app.log"));
+        IncrementalFileStats stats = IncrementalFileStats.open(path);
+        for (int i = 0; i < 200; i++) {
+            append(path, "event " + i + " зроблено ".repeat(i % 7) + "\n");
+            stats.refresh();
+
+            CharacterHistogram expected = CharacterHistogram.count(path, ForkJoinPool.commonPool()).without(' ');
+            assertThat(stats.getMostPopularCharacter()).isEqualTo(expected.mostFrequent());
+            assertThat(stats.getCharCount('о')).isEqualTo(expected.count('о'));
+        }
+    }
+
+    @Test
+    void refreshCountsAppendedBytesInChunks() throws IOException {
+        Path path = Files.writeString(directory.resolve("app.log"), "a\n");
+        IncrementalFileStats stats = IncrementalFileStats.open(path, ForkJoinPool.commonPool(), 16);
+        String appended = "зроблено 😀 без переносу рядка ".repeat(10) + "\nevent\n".repeat(5);
+        append(path, appended);
+
+        assertThat(stats.refresh()).isEqualTo(appended.getBytes(StandardCharsets.UTF_8).length);
+
+        CharacterHistogram expected = CharacterHistogram.count(path, ForkJoinPool.commonPool()).without(' ');
+        assertThat(stats.getMostPopularCharacter()).isEqualTo(expected.mostFrequent());
+        assertThat(stats.getCharCount('о')).isEqualTo(expected.count('о'));
+        assertThat(stats.getCharCount('\uD83D')).isEqualTo(10);
+        assertThat(stats.getCharCount('e')).isEqualTo(expected.count('e'));
+    }
+
+    private static void append(Path path, String text) throws IOException {
+        append(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void append(Path path, byte[] bytes) throws IOException {
+        Files.write(path, bytes, StandardOpenOption.APPEND);
+    }
+}
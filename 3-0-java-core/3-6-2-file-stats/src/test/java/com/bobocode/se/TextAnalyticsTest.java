@@ -0,0 +1,75 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TextAnalyticsTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void topCharacters() throws IOException {
+        Path path = Files.writeString(directory.resolve("text.txt"), "😀😀😀 bb\ncc a");
+
+        List<Frequency<Integer>> top = new TextAnalytics(3).topCharacters(path);
+
+        assertThat(top).containsExactly(new Frequency<>("😀".codePointAt(0), 3L), new Frequency<>((int) 'b', 2L),
+                new Frequency<>((int) 'c', 2L));
+    }
+
+    @Test
+    void topWords() throws IOException {
+        Path path = Files.writeString(directory.resolve("text.txt"), "The cat, the dog.\nTHE END; Cat!");
+
+        TopKCounter<String> words = new TextAnalytics(2).topWords(path);
+
+        assertThat(words.isExact()).isTrue();
+        assertThat(words.topK()).containsExactly(new Frequency<>("the", 3L), new Frequency<>("cat", 2L));
+    }
+
+    @Test
+    void topWordsOfLargeVocabularyUseSketch() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            text.append("word").append(i).append(i % 4 == 0 ? " common " : " ");
+        }
+        Path path = Files.writeString(directory.resolve("text.txt"), text);
+
+        TopKCounter<String> words = new TextAnalytics(1, 1_000, StandardCharsets.UTF_8).topWords(path);
+
+        assertThat(words.isExact()).isFalse();
+        assertThat(words.topK()).extracting(Frequency::item).containsExactly("common");
+    }
+
+    @Test
+    void topBigramsAndTrigrams() throws IOException {
+        Path path = Files.writeString(directory.resolve("text.txt"), "abab ab, bab\nїжак");
+        TextAnalytics analytics = new TextAnalytics(2);
+
+        List<Frequency<Long>> bigrams = analytics.topNGrams(path, 2).topK();
+        List<Frequency<Long>> trigrams = analytics.topNGrams(path, 3).topK();
+
+        assertThat(bigrams).extracting(frequency -> TextAnalytics.nGramToString(frequency.item(), 2))
+                .containsExactly("ab", "ba");
+        assertThat(bigrams).extracting(Frequency::count).containsExactly(4L, 2L);
+        assertThat(trigrams).extracting(frequency -> TextAnalytics.nGramToString(frequency.item(), 3))
+                .contains("bab");
+        assertThat(analytics.topNGrams(path, 3).topK().get(0).count()).isEqualTo(2L);
+    }
+
+    @Test
+    void invalidNGramLength() throws IOException {
+        Path path = Files.writeString(directory.resolve("text.txt"), "abc");
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new TextAnalytics(2).topNGrams(path, 4));
+    }
+}
@@ -0,0 +1,107 @@
+package com.bobocode.se;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * A JMH benchmark that finds the 100 most frequent words of a generated text file (256MB by default) with
+ * {@link TextAnalytics} and with a naive pipeline that splits lines into words, collects them with
+ * {@code groupingBy(identity(), counting())} and sorts the whole map. Words follow a Zipf-like distribution over a
+ * vocabulary of 2M words, so the naive map holds every distinct word while {@link TopKCounter} switches to a
+ * Count-Min Sketch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class TopKBenchmark {
+    private static final int K = 100;
+    private static final int VOCABULARY = 2_000_000;
+
+    @Param({"268435456"})
+    private long fileSize;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void generateFile() throws IOException {
+        file = Files.createTempFile("top-k-benchmark", ".txt");
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            while (Files.size(file) < fileSize) {
+                for (int line = 0; line < 10_000; line++) {
+                    for (int word = 0; word < 12; word++) {
+                        // rank ~ 1 / u gives a heavy-tailed, Zipf-like distribution of words
+                        int rank = (int) Math.min(VOCABULARY, 1 / (random.nextDouble() + 1e-9));
+                        writer.write("w" + Integer.toString(rank, 36) + ' ');
+                    }
+                    writer.write('\n');
+                }
+                writer.flush();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<Frequency<String>> textAnalytics() {
+        return new TextAnalytics(K).topWords(file).topK();
+    }
+
+    @Benchmark
+    public List<Map.Entry<String, Long>> naiveGroupingBy() throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            Map<String, Long> counts = lines
+                    .flatMap(line -> Arrays.stream(line.split("\\s+")))
+                    .filter(word -> !word.isEmpty())
+                    .map(String::toLowerCase)
+                    .collect(groupingBy(Function.identity(), counting()));
+            return counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(K)
+                    .toList();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TopKBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TopKCounterTest {
+
+    @Test
+    void exactModeForSmallVocabulary() {
+        TopKCounter<String> counter = new TopKCounter<>(2, 10, String::hashCode, 0.01, 0.9);
+        for (String word : "a b a c b a d".split(" ")) {
+            counter.add(word);
+        }
+
+        assertThat(counter.isExact()).isTrue();
+        assertThat(counter.topK()).containsExactly(new Frequency<>("a", 3), new Frequency<>("b", 2));
+    }
+
+    @Test
+    void sketchModeFindsHeavyHittersOfLargeVocabulary() {
+        TopKCounter<Long> counter = new TopKCounter<>(5, 1_000, TextAnalytics::mix, 1e-4, 0.99);
+        Random random = new Random(1);
+        for (int i = 0; i < 300_000; i++) {
+            // items 0..4 are heavy hitters, the rest is a long tail of 100k items
+            long item = i % 3 == 0 ? random.nextInt(5) : 5 + random.nextInt(100_000);
+            counter.add(item);
+        }
+
+        List<Frequency<Long>> top = counter.topK();
+
+        assertThat(counter.isExact()).isFalse();
+        assertThat(top).extracting(Frequency::item).containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L);
+        assertThat(top).allSatisfy(frequency -> assertThat(frequency.count()).isBetween(18_000L, 23_000L));
+        assertThat(top).isSortedAccordingTo((a, b) -> Long.compare(b.count(), a.count()));
+    }
+
+    @Test
+    void exactCountsAreMovedIntoSketch() {
+        TopKCounter<Long> counter = new TopKCounter<>(1, 3, TextAnalytics::mix, 1e-3, 0.99);
+        for (int i = 0; i < 100; i++) {
+            counter.add(7L);
+        }
+        for (long item = 0; item < 10; item++) {
+            counter.add(item);
+        }
+
+        assertThat(counter.isExact()).isFalse();
+        assertThat(counter.topK()).containsExactly(new Frequency<>(7L, 101L));
+    }
+
+    @Test
+    void invalidParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopKCounter<>(0, 10, String::hashCode, 0.1, 0.9));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopKCounter<>(5, 4, String::hashCode, 0.1, 0.9));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopKCounter<>(1, 4, String::hashCode, 0, 0.9));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopKCounter<>(1, 4, String::hashCode, 0.1, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopKCounter<>(1, 4, String::hashCode, 1e-12, 0.9));
+    }
+}